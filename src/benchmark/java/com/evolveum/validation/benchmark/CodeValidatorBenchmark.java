@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.benchmark;
+
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.module.converter.Converter;
+import com.evolveum.validation.module.validator.CodeValidator;
+import com.evolveum.validation.module.validator.ItemDefinitionResolver;
+import com.evolveum.validation.module.validator.ValidationMetrics;
+import com.evolveum.validation.module.validator.ValidationParams;
+import com.evolveum.validation.module.validator.ValidatorProviderImpl;
+import com.evolveum.validation.service.PrismContextService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of {@link CodeValidator#validate(String, SupportedLanguage)} for XML, JSON and YAML inputs.
+ *
+ * Inputs are a mapping attribute snippet (same as in {@code TestXmlValidation}) and a whole resource object from
+ * midpoint-samples (unpacked to {@code target/midpoint-samples} by the build). JSON and YAML inputs are converted
+ * from the XML ones. Each input is validated without definition and with objectType/itemPath definition.
+ *
+ * Allocation rate is reported by the {@code gc} profiler, which is enabled by default {@code jmh.args}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CodeValidatorBenchmark {
+
+    private static final String SAMPLES_DIR = System.getProperty("benchmark.samples.dir", "target/midpoint-samples");
+
+    private static final String SNIPPET = """
+            <attribute>
+                <ref>name</ref>
+                <correlator/>
+                <inbound>
+                    <strength>strong</strength>
+                    <target>
+                        <path>name</path>
+                    </target>
+                </inbound>
+                <outbound>
+                    <strength>strong</strength>
+                    <source>
+                        <path>name</path>
+                    </source>
+                </outbound>
+            </attribute>
+            """;
+
+    public enum Input { SNIPPET, OBJECT }
+
+    @Param({ "XML", "JSON", "YAML" })
+    public SupportedLanguage language;
+
+    @Param({ "SNIPPET", "OBJECT" })
+    public Input input;
+
+    @Param({ "false", "true" })
+    public boolean withDefinition;
+
+    private CodeValidator validator;
+    private String code;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        PrismContext prismContext = new PrismContextService().getPrismContext();
+        ValidatorProviderImpl validatorProvider = new ValidatorProviderImpl(
+                prismContext,
+                new ItemDefinitionResolver(prismContext, new ConcurrentMapCacheManager()),
+                new ValidationMetrics(new SimpleMeterRegistry()));
+
+        String xml = input == Input.SNIPPET ? SNIPPET : readSampleResource();
+        code = language == SupportedLanguage.XML
+                ? xml
+                : new Converter(prismContext, language.getValue()).convert(xml, SupportedLanguage.XML);
+
+        ValidationParams params;
+        if (!withDefinition) {
+            params = new ValidationParams(null, null);
+        } else if (input == Input.SNIPPET) {
+            params = new ValidationParams("ResourceType", "schemaHandling/objectType/attribute");
+        } else {
+            params = new ValidationParams("ResourceType", null);
+        }
+        validator = validatorProvider.getValidator(params);
+    }
+
+    @Benchmark
+    public List<ValidationLog> validate() throws Exception {
+        return validator.validate(code, language);
+    }
+
+    /**
+     * First resource (in path order, so the choice is stable between runs) from midpoint-samples.
+     */
+    private static String readSampleResource() throws IOException {
+        try (Stream<Path> paths = Files.walk(Path.of(SAMPLES_DIR))) {
+            for (Path path : paths.filter(p -> p.toString().endsWith(".xml")).sorted().toList()) {
+                String content = Files.readString(path);
+                if (content.contains("<resource ") || content.contains("<c:resource ")) {
+                    return content;
+                }
+            }
+        }
+        throw new IllegalStateException("No resource found in " + SAMPLES_DIR + ", run the build to unpack midpoint-samples");
+    }
+}
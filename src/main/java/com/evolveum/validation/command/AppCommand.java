@@ -9,21 +9,34 @@
 package com.evolveum.validation.command;
 
 import com.evolveum.concepts.ValidationLog;
+import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.validation.common.SupportedLanguage;
 import com.evolveum.validation.module.converter.Converter;
 import com.evolveum.validation.module.converter.ConverterParams;
+import com.evolveum.validation.util.HashUtils;
 import com.evolveum.validation.util.LanguageUtils;
 import com.evolveum.validation.module.validator.ValidationParams;
 import com.evolveum.validation.module.validator.ValidatorProvider;
-import com.evolveum.validation.module.validator.ValidatorProviderImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 @Component
@@ -38,6 +51,22 @@ public class AppCommand implements CommandLineRunner {
             convert Midpoint object \n \t "<snippet-object>" <target-language> : convert to target language snippet from midpoint object
             """);
 
+    private final PrismContext prismContext;
+    private final ValidatorProvider<ValidationParams> validatorProvider;
+    private final int samplesWorkers;
+    private final Path samplesIndexFile;
+
+    public AppCommand(
+            PrismContext prismContext,
+            ValidatorProvider<ValidationParams> validatorProvider,
+            @Value("${validation.samples.workers:0}") int samplesWorkers,
+            @Value("${validation.samples.index-file:midpoint-samples-index.properties}") Path samplesIndexFile) {
+        this.prismContext = prismContext;
+        this.validatorProvider = validatorProvider;
+        this.samplesWorkers = samplesWorkers;
+        this.samplesIndexFile = samplesIndexFile;
+    }
+
     @Override
     public void run(String... args) throws Exception {
         if (args.length == 0) return;
@@ -81,7 +110,6 @@ public class AppCommand implements CommandLineRunner {
     }
 
     private void validate(ValidationParams params, String code, SupportedLanguage contentType) throws Exception {
-        ValidatorProvider<ValidationParams> validatorProvider = new ValidatorProviderImpl();
         List<ValidationLog> logs = validatorProvider.getValidator(params).validate(code, contentType);
 
         if (logs.isEmpty()) {
@@ -95,7 +123,7 @@ public class AppCommand implements CommandLineRunner {
     }
 
     private void convert(ConverterParams params, String code, SupportedLanguage contentType) {
-        Converter convertor = new Converter(params.targetLanguage());
+        Converter convertor = new Converter(prismContext, params.targetLanguage());
         String response = convertor.convert(code, contentType);
         System.out.println(response);
     }
@@ -112,28 +140,96 @@ public class AppCommand implements CommandLineRunner {
             throw new IllegalStateException("Directory does not exist: " + dir.toAbsolutePath());
         }
 
+        List<Path> files;
         try (Stream<Path> paths = Files.walk(dir)) {
-            paths
-                    .filter(Files::isRegularFile)
-                    .forEach(path -> {
-                        System.out.println("File: " + path.getFileName());
-                        try {
-                            String content = Files.readString(path);
-                            SupportedLanguage language = getLangByPath(path);
-                            if (language != null) {
-                                validate(new ValidationParams(null, null), content, language);
-                            } else {
-                                System.out.println("Unsupported language");
-                            }
-                        } catch (IOException e) {
-                            System.out.println("Failed to read " + path + " -> " + e.getLocalizedMessage());
-                        } catch (Exception e) {
-                            System.out.println("Exception " + path + " -> " + e.getLocalizedMessage());
-                        }
-                    });
+            files = paths.filter(Files::isRegularFile).toList();
         } catch (IOException e) {
             throw new RuntimeException("Failed to scan target/midpoint-samples", e);
         }
+
+        int workers = samplesWorkers > 0 ? samplesWorkers : Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        SamplesIndex index = SamplesIndex.load(samplesIndexFile);
+        Set<String> digests = ConcurrentHashMap.newKeySet();
+        List<SampleResult> results;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("samples-"))) {
+            List<Future<SampleResult>> futures = files.stream()
+                    .map(path -> executor.submit(() -> validateSample(path, index, digests)))
+                    .toList();
+
+            results = new ArrayList<>(futures.size());
+            for (Future<SampleResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Validation of midpoint-samples was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Validation of midpoint-samples failed", e.getCause());
+        }
+
+        try {
+            index.save(samplesIndexFile, digests);
+        } catch (IOException e) {
+            System.out.println("Failed to write samples index " + samplesIndexFile + " -> " + e.getLocalizedMessage());
+        }
+
+        new SamplesReport(results, Duration.ofNanos(System.nanoTime() - start), workers).print(System.out);
+    }
+
+    /**
+     * Validate the file, unless the index contains outcome of the same content. Digest of the file is added to
+     * {@code digests}, new outcome is added to the {@code index}.
+     */
+    private SampleResult validateSample(Path path, SamplesIndex index, Set<String> digests) {
+        long start = System.nanoTime();
+        StringBuilder output = new StringBuilder("File: " + path.getFileName() + "\n");
+        SupportedLanguage language = getLangByPath(path);
+        List<ValidationLog> logs = List.of();
+        String error = null;
+
+        try {
+            if (language != null) {
+                byte[] content = Files.readAllBytes(path);
+                String digest = HashUtils.sha256Hex(content);
+                digests.add(digest);
+
+                SamplesIndex.Outcome outcome = index.get(digest);
+                if (outcome != null) {
+                    return new SampleResult(path, language, outcome.warnings(), outcome.error(), Duration.ZERO, true);
+                }
+
+                try {
+                    logs = validatorProvider.getValidator(new ValidationParams(null, null))
+                            .validate(new String(content, StandardCharsets.UTF_8), language);
+                } catch (Exception e) {
+                    index.put(digest, new SamplesIndex.Outcome(0, Objects.toString(e.getLocalizedMessage(), e.getClass().getName())));
+                    throw e;
+                }
+                index.put(digest, new SamplesIndex.Outcome(logs.size(), null));
+
+                if (logs.isEmpty()) {
+                    output.append("Object is correct\n");
+                }
+                for (ValidationLog log : logs) {
+                    output.append(log.validationLogType().toString() + " " + log.location().toString() + " " + log.message() + "\n");
+                }
+            } else {
+                output.append("Unsupported language\n");
+            }
+        } catch (IOException e) {
+            error = Objects.toString(e.getLocalizedMessage(), e.getClass().getName());
+            output.append("Failed to read " + path + " -> " + error + "\n");
+        } catch (Exception e) {
+            error = Objects.toString(e.getLocalizedMessage(), e.getClass().getName());
+            output.append("Exception " + path + " -> " + error + "\n");
+        }
+
+        // one print per file, so outputs of files validated in parallel are not interleaved
+        System.out.println(output);
+
+        return new SampleResult(path, language, logs.size(), error, Duration.ofNanos(System.nanoTime() - start), false);
     }
 
     private SupportedLanguage getLangByPath(Path path) {
@@ -0,0 +1,40 @@
+/*
+ *
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.command;
+
+import com.evolveum.validation.common.SupportedLanguage;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of validation of one file from midpoint-samples.
+ *
+ * @param language language of the file, null if the file is not in a supported language (such files are skipped)
+ * @param warnings number of validation logs of the file
+ * @param error message of exception thrown during reading or validation of the file, null if there was none
+ * @param fromIndex true if the file was not changed since the last run and its outcome was taken from the index
+ */
+record SampleResult(
+        Path path,
+        @Nullable SupportedLanguage language,
+        int warnings,
+        @Nullable String error,
+        Duration duration,
+        boolean fromIndex) {
+
+    boolean skipped() {
+        return language == null;
+    }
+
+    boolean passed() {
+        return !skipped() && warnings == 0 && error == null;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.command;
+
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.schema.MidPointPrismContextFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk index of content digest of midpoint-samples files to their last validation outcome.
+ *
+ * Files with a digest present in the index are not validated again. The index is valid only for the schema and
+ * validator it was created with: it is discarded when midPoint, prism or this application change.
+ */
+class SamplesIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SamplesIndex.class);
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String SEPARATOR = "|";
+
+    private final String fingerprint;
+    private final Map<String, Outcome> outcomes = new ConcurrentHashMap<>();
+
+    private SamplesIndex(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Load index from the {@code file}. Empty index is returned if the file does not exist, cannot be read or parsed,
+     * or was created with a different schema.
+     */
+    static SamplesIndex load(Path file) {
+        SamplesIndex index = new SamplesIndex(currentFingerprint());
+        if (!Files.exists(file)) {
+            return index;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Failed to read samples index {}, all files will be validated", file, e);
+            return index;
+        }
+
+        if (!index.fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+            LOG.info("Schema changed since samples index {} was created, all files will be validated", file);
+            return index;
+        }
+
+        try {
+            for (String digest : properties.stringPropertyNames()) {
+                if (!digest.equals(FINGERPRINT_KEY)) {
+                    index.outcomes.put(digest, Outcome.parse(properties.getProperty(digest)));
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Samples index {} is corrupted, all files will be validated", file, e);
+            return new SamplesIndex(index.fingerprint);
+        }
+        return index;
+    }
+
+    @Nullable
+    Outcome get(String digest) {
+        return outcomes.get(digest);
+    }
+
+    void put(String digest, Outcome outcome) {
+        outcomes.put(digest, outcome);
+    }
+
+    /**
+     * Store the index to the {@code file}. Only outcomes of the {@code digests} are kept, so the index does not
+     * grow with deleted or changed files.
+     */
+    void save(Path file, Set<String> digests) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        outcomes.forEach((digest, outcome) -> {
+            if (digests.contains(digest)) {
+                properties.setProperty(digest, outcome.format());
+            }
+        });
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile)) {
+            properties.store(writer, "midpoint-samples validation index");
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Identifies the schema the samples are validated against and the validator itself, i.e. versions and builds of
+     * midPoint schema, prism and this application. Snapshot builds keep the version, so size and modification time
+     * of the jar is used as well.
+     */
+    private static String currentFingerprint() {
+        return libraryFingerprint(MidPointPrismContextFactory.class) + ";" + libraryFingerprint(PrismContext.class)
+                + ";" + libraryFingerprint(SamplesIndex.class);
+    }
+
+    /**
+     * If the jar of the {@code clazz} can not be identified (e.g. nested jar in Spring Boot fat jar, or a classes
+     * directory), the version is not enough, because snapshots keep it. Fingerprint unique to this run is returned
+     * then, so a stored index never matches and all files are validated.
+     */
+    private static String libraryFingerprint(Class<?> clazz) {
+        String version = String.valueOf(clazz.getPackage().getImplementationVersion());
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource != null) {
+            try {
+                Path location = Path.of(codeSource.getLocation().toURI());
+                if (Files.isRegularFile(location)) {
+                    return version + ':' + location.getFileName() + ':' + Files.size(location)
+                            + ':' + Files.getLastModifiedTime(location).toMillis();
+                }
+            } catch (URISyntaxException | IOException | RuntimeException e) {
+                LOG.debug("Cannot determine location of {}", clazz, e);
+            }
+        }
+        LOG.info("Build of {} can not be identified, samples index will not be reused", clazz.getName());
+        return version + ":unknown:" + UUID.randomUUID();
+    }
+
+    /**
+     * Last validation outcome of a file.
+     *
+     * @param error message of exception thrown during validation, null if there was none
+     */
+    record Outcome(int warnings, @Nullable String error) {
+
+        private static Outcome parse(String value) {
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new Outcome(Integer.parseInt(value), null);
+            }
+            return new Outcome(Integer.parseInt(value.substring(0, separator)), value.substring(separator + 1));
+        }
+
+        private String format() {
+            return error == null ? String.valueOf(warnings) : warnings + SEPARATOR + error;
+        }
+    }
+}
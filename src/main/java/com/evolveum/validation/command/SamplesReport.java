@@ -0,0 +1,78 @@
+/*
+ *
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.command;
+
+import com.evolveum.validation.common.SupportedLanguage;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of midpoint-samples validation run.
+ */
+class SamplesReport {
+
+    private static final int SLOWEST_FILES = 10;
+
+    private final List<SampleResult> results;
+    private final Duration wallTime;
+    private final int workers;
+
+    SamplesReport(List<SampleResult> results, Duration wallTime, int workers) {
+        this.results = results;
+        this.wallTime = wallTime;
+        this.workers = workers;
+    }
+
+    void print(PrintStream out) {
+        Map<SupportedLanguage, Integer> filesPerLanguage = new EnumMap<>(SupportedLanguage.class);
+        int passed = 0;
+        int failed = 0;
+        int skipped = 0;
+        int fromIndex = 0;
+        long warnings = 0;
+
+        for (SampleResult result : results) {
+            if (result.skipped()) {
+                skipped++;
+                continue;
+            }
+
+            filesPerLanguage.merge(result.language(), 1, Integer::sum);
+            if (result.fromIndex()) {
+                fromIndex++;
+            }
+            warnings += result.warnings();
+            if (result.passed()) {
+                passed++;
+            } else {
+                failed++;
+            }
+        }
+
+        out.println("==== midpoint-samples validation report ====");
+        out.println("Files: " + results.size() + " (skipped unsupported: " + skipped + ")");
+        filesPerLanguage.forEach((language, count) -> out.println("  " + language + ": " + count));
+        out.println("Unchanged since last run: " + fromIndex + ", validated: " + (results.size() - skipped - fromIndex));
+        out.println("Passed: " + passed);
+        out.println("Failed: " + failed);
+        out.println("Total warnings: " + warnings);
+        out.println("Wall time: " + wallTime.toMillis() + " ms (" + workers + " workers)");
+        out.println("Slowest files:");
+        results.stream()
+                .filter(result -> !result.skipped() && !result.fromIndex())
+                .sorted(Comparator.comparing(SampleResult::duration).reversed())
+                .limit(SLOWEST_FILES)
+                .forEach(result -> out.println("  " + result.duration().toMillis() + " ms " + result.path()));
+    }
+}
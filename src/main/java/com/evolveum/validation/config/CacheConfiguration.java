@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-memory caches of the application.
+ *
+ * All caches record statistics, so hit and miss counts are published as {@code cache.*} metrics on the actuator
+ * metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    /**
+     * Item definitions resolved from (objectType, itemPath) pairs of validation requests.
+     */
+    public static final String ITEM_DEFINITIONS = "itemDefinitions";
+
+    /**
+     * Validation logs of already validated code, keyed by content hash.
+     */
+    public static final String VALIDATION_RESULTS = "validationResults";
+
+    /**
+     * Compiled MEL scripts, keyed by script text and variable declarations.
+     */
+    public static final String MEL_SCRIPTS = "melScripts";
+
+    /**
+     * Parsed prism objects uploaded as named test values of MEL variables.
+     */
+    public static final String MEL_FIXTURES = "melFixtures";
+
+    /**
+     * Validation logs of Groovy snippets, keyed by content hash, script base class and snippet type.
+     */
+    public static final String GROOVY_VALIDATION_RESULTS = "groovyValidationResults";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${validation.cache.item-definitions.max-size:256}") long itemDefinitionsMaxSize,
+            @Value("${validation.cache.validation-results.max-size:1000}") long validationResultsMaxSize,
+            @Value("${validation.cache.validation-results.expire-after-write:10m}") Duration validationResultsExpiration,
+            @Value("${validation.cache.mel-scripts.max-size:1000}") long melScriptsMaxSize,
+            @Value("${validation.cache.mel-scripts.expire-after-access:1h}") Duration melScriptsExpiration,
+            @Value("${validation.cache.mel-fixtures.max-size:100}") long melFixturesMaxSize,
+            @Value("${validation.cache.mel-fixtures.expire-after-access:1h}") Duration melFixturesExpiration,
+            @Value("${validation.cache.groovy-validation-results.max-size:1000}") long groovyResultsMaxSize,
+            @Value("${validation.cache.groovy-validation-results.expire-after-access:1h}") Duration groovyResultsExpiration) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ITEM_DEFINITIONS, Caffeine.newBuilder()
+                .maximumSize(itemDefinitionsMaxSize)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(VALIDATION_RESULTS, Caffeine.newBuilder()
+                .maximumSize(validationResultsMaxSize)
+                .expireAfterWrite(validationResultsExpiration)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEL_SCRIPTS, Caffeine.newBuilder()
+                .maximumSize(melScriptsMaxSize)
+                .expireAfterAccess(melScriptsExpiration)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(MEL_FIXTURES, Caffeine.newBuilder()
+                .maximumSize(melFixturesMaxSize)
+                .expireAfterAccess(melFixturesExpiration)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(GROOVY_VALIDATION_RESULTS, Caffeine.newBuilder()
+                .maximumSize(groovyResultsMaxSize)
+                .expireAfterAccess(groovyResultsExpiration)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    public static final String VALIDATION_EXECUTOR = "validationExecutor";
+    public static final String MEL_EVALUATION_EXECUTOR = "melEvaluationExecutor";
+
+    /**
+     * Executor for validation work split out of a single request (e.g. batch validation). It has as many threads
+     * as there are available cores and a bounded queue. When the queue is full, the task runs in the submitting
+     * request thread, which slows down the producer instead of rejecting the work.
+     */
+    @Bean(name = VALIDATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService validationExecutor(
+            @Value("${validation.executor.threads:0}") int threads,
+            @Value("${validation.executor.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("validation-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Executor for MEL script evaluations, so request threads can stop waiting for an evaluation after its deadline.
+     * Evaluation that runs past the deadline still occupies its thread until it ends, therefore the pool is separate
+     * from {@link #VALIDATION_EXECUTOR} and work is rejected instead of queued without limit when all threads are busy.
+     */
+    @Bean(name = MEL_EVALUATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService melEvaluationExecutor(
+            @Value("${validation.mel.executor.threads:0}") int threads,
+            @Value("${validation.mel.executor.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("mel-evaluation-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -12,10 +12,11 @@ import com.evolveum.midpoint.common.LocalizationServiceImpl;
 import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.midpoint.prism.crypto.Protector;
 import com.evolveum.midpoint.prism.impl.crypto.KeyStoreBasedProtectorImpl;
-import com.evolveum.midpoint.schema.MidPointPrismContextFactory;
 import com.evolveum.midpoint.util.exception.SchemaException;
+import com.evolveum.validation.service.PrismContextService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.xml.sax.SAXException;
 
 @Configuration
 public class PrismConfiguration {
@@ -25,10 +26,15 @@ public class PrismConfiguration {
         return new KeyStoreBasedProtectorImpl();
     }
 
+    /**
+     * The one and only prism context of the application. It is initialized eagerly at startup, so requests pay
+     * only for parsing and never for loading the midPoint schema registry. Prism parsing and serialization are
+     * thread-safe, so the same instance is shared by all request threads.
+     */
     @Bean
-    public PrismContext prismContext() throws SchemaException, java.io.IOException {
-        MidPointPrismContextFactory factory = new MidPointPrismContextFactory();
-        return factory.createPrismContext();
+    public PrismContext prismContext(PrismContextService prismContextService)
+            throws SchemaException, java.io.IOException, SAXException {
+        return prismContextService.getPrismContext();
     }
 
     @Bean
@@ -9,42 +9,65 @@ package com.evolveum.validation.module.converter;
 
 import com.evolveum.midpoint.prism.ParsingContext;
 import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.prism.PrismParser;
+import com.evolveum.midpoint.prism.PrismSerializer;
 import com.evolveum.midpoint.prism.impl.xnode.RootXNodeImpl;
 import com.evolveum.validation.common.SupportedLanguage;
-import com.evolveum.validation.service.PrismContextService;
+
+import java.io.InputStream;
+import java.io.Writer;
 
 /**
  * Created by Dominik.
+ *
+ * Converter keeps no state of a conversion, one instance per target language can be shared by all threads.
  */
 public class Converter {
 
-    private final String targetLang;
+    private final PrismContext prismContext;
+    private final PrismSerializer<String> serializer;
 
-    public Converter(String targetLang) {
-        this.targetLang = targetLang;
+    public Converter(PrismContext prismContext, String targetLang) {
+        this.prismContext = prismContext;
+        this.serializer = prismContext.serializerFor(targetLang);
     }
 
     public String convert(String codeSnippet, SupportedLanguage language) {
         try {
-            PrismContext prismContext = new PrismContextService().getPrismContext();
-            ParsingContext parsingCtx = prismContext.createParsingContextForCompatibilityMode();
-
             if (codeSnippet == null) {
                 throw new Exception("Body input is empty.");
             }
 
-            if (SupportedLanguage.isSupported(language.getValue())) {
-                throw new Exception("%s language is not supported.".formatted(language.getValue()));
-            }
-
-            RootXNodeImpl root = (RootXNodeImpl) prismContext.parserFor(codeSnippet)
-                    .language(language.getValue())
-                    .context(parsingCtx)
-                    .parseToXNode();
+            return serialize(prismContext.parserFor(codeSnippet), language);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            return prismContext.serializerFor(targetLang).serialize(root);
+    /**
+     * Convert code read from the {@code input} and write the result to the {@code output}. Nothing is written to the
+     * {@code output} if the conversion fails.
+     */
+    public void convert(InputStream input, SupportedLanguage language, Writer output) {
+        try {
+            output.write(serialize(prismContext.parserFor(input), language));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
+
+    private String serialize(PrismParser parser, SupportedLanguage language) throws Exception {
+        ParsingContext parsingCtx = prismContext.createParsingContextForCompatibilityMode();
+
+        if (SupportedLanguage.isSupported(language.getValue())) {
+            throw new Exception("%s language is not supported.".formatted(language.getValue()));
+        }
+
+        RootXNodeImpl root = (RootXNodeImpl) parser
+                .language(language.getValue())
+                .context(parsingCtx)
+                .parseToXNode();
+
+        return serializer.serialize(root);
+    }
 }
@@ -7,15 +7,23 @@
 
 package com.evolveum.validation.module.converter;
 
+import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.validation.common.SupportedLanguage;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Created by Dominik.
  */
@@ -23,41 +31,71 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(path = "/convert")
 public class ConverterController {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ConverterController.class);
+
+    /**
+     * One converter (and so one serializer) per target language, created at startup.
+     */
+    private final Map<SupportedLanguage, Converter> converters = new EnumMap<>(SupportedLanguage.class);
+
+    public ConverterController(PrismContext prismContext) {
+        for (SupportedLanguage language : new SupportedLanguage[] {
+                SupportedLanguage.XML, SupportedLanguage.JSON, SupportedLanguage.YAML }) {
+            converters.put(language, new Converter(prismContext, language.getValue()));
+        }
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_XML_VALUE)
-    public ResponseEntity<?> handleXml(@RequestBody String codeSnippet, ConverterParams params) {
-        return convert(codeSnippet, params, SupportedLanguage.XML);
+    public void handleXml(InputStream body, ConverterParams params, HttpServletResponse response) throws IOException {
+        convert(body, params, SupportedLanguage.XML, response);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> handleJson(@RequestBody String codeSnippet, ConverterParams params) {
-        return convert(codeSnippet, params, SupportedLanguage.JSON);
+    public void handleJson(InputStream body, ConverterParams params, HttpServletResponse response) throws IOException {
+        convert(body, params, SupportedLanguage.JSON, response);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_YAML_VALUE)
-    public ResponseEntity<?> handleYaml(@RequestBody String codeSnippet, ConverterParams params) {
-        return convert(codeSnippet, params, SupportedLanguage.YAML);
+    public void handleYaml(InputStream body, ConverterParams params, HttpServletResponse response) throws IOException {
+        convert(body, params, SupportedLanguage.YAML, response);
     }
 
-    public ResponseEntity<?> convert(String codeSnippet, ConverterParams params, SupportedLanguage contentType) {
+    /**
+     * Convert the request body and write the result directly to the response writer. The body is parsed from the
+     * request stream and the result is not copied into a response body byte array.
+     */
+    public void convert(InputStream body, ConverterParams params, SupportedLanguage contentType,
+            HttpServletResponse response) throws IOException {
         try {
-            Converter convertor = new Converter(params.targetLanguage());
             SupportedLanguage lang = SupportedLanguage
                     .fromValue(params.targetLanguage())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "Unsupported language: " + params.targetLanguage()
                     ));
+            Converter convertor = converters.get(lang);
+            if (convertor == null) {
+                throw new IllegalArgumentException("Unsupported language: " + params.targetLanguage());
+            }
 
-            return ResponseEntity.ok()
-                    .contentType(switch (lang) {
-                        case XML  -> MediaType.APPLICATION_XML;
-                        case JSON -> MediaType.APPLICATION_JSON;
-                        case YAML -> MediaType.APPLICATION_YAML;
-                        case MEL -> new MediaType("application", "x-mel");
-                    }).body(convertor.convert(codeSnippet, contentType));
+            response.setContentType(switch (lang) {
+                case XML  -> MediaType.APPLICATION_XML_VALUE;
+                case JSON -> MediaType.APPLICATION_JSON_VALUE;
+                case YAML -> MediaType.APPLICATION_YAML_VALUE;
+                case MEL -> "application/x-mel";
+            });
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            convertor.convert(body, contentType, response.getWriter());
         } catch (Exception e) {
-            return ResponseEntity
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(e.getLocalizedMessage());
+            if (response.isCommitted()) {
+                // part of the result was already sent (e.g. client disconnected while writing), status can not change
+                LOG.warn("Conversion to {} failed after the response was committed", params.targetLanguage(), e);
+                throw e instanceof IOException ioException ? ioException : new IOException(e);
+            }
+            // converter writes nothing when the conversion fails, so the response can be still reset
+            response.reset();
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(String.valueOf(e.getLocalizedMessage()));
         }
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import javax.annotation.Nullable;
+
+/**
+ * One snippet of batch validation request.
+ *
+ * @param content code to validate
+ * @param language language of the content (xml, json or yaml); it is detected from the content if not set
+ * @param objectType same as {@link ValidationParams#objectType()}
+ * @param itemPath same as {@link ValidationParams#itemPath()}
+ */
+public record BatchValidationEntry(
+        String content,
+        @Nullable
+        String language,
+        @Nullable
+        String objectType,
+        @Nullable
+        String itemPath) {
+}
@@ -8,29 +8,36 @@
 package com.evolveum.validation.module.validator;
 
 import com.evolveum.concepts.ValidationLog;
+import com.evolveum.midpoint.prism.ItemDefinition;
 import com.evolveum.midpoint.prism.ParsingContext;
 import com.evolveum.midpoint.prism.PrismContext;
-import com.evolveum.midpoint.prism.path.ItemPath;
 import com.evolveum.midpoint.prism.xnode.RootXNode;
 import com.evolveum.validation.common.SupportedLanguage;
-import com.evolveum.validation.service.PrismContextService;
+import com.evolveum.validation.module.validator.ValidationMetrics.Stage;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.constraints.NotNull;
 
-import javax.xml.namespace.QName;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class CodeValidatorImpl implements CodeValidator {
 
+    private final PrismContext prismContext;
+    private final ItemDefinitionResolver definitionResolver;
+    private final ValidationMetrics metrics;
     private final ValidationParams validationParams;
 
-    public CodeValidatorImpl(ValidationParams validationParams) {
+    public CodeValidatorImpl(PrismContext prismContext, ItemDefinitionResolver definitionResolver,
+            ValidationMetrics metrics, ValidationParams validationParams) {
+        this.prismContext = prismContext;
+        this.definitionResolver = definitionResolver;
+        this.metrics = metrics;
         this.validationParams = validationParams;
     }
 
     @Override
     public List<ValidationLog> validate(String rawObject, @NotNull SupportedLanguage language) throws Exception {
-        PrismContext prismContext = new PrismContextService().getPrismContext();
         ParsingContext parsingCtx = prismContext.createParsingContextForCompatibilityMode().validation();
 
         List<ValidationLog> validationLogs;
@@ -43,35 +50,33 @@ public class CodeValidatorImpl implements CodeValidator {
             throw new Exception("%s language is not supported.".formatted(language));
         }
 
+        String objectType = validationParams.objectType();
+        // metric tag, raw value of the request would create a new meter for every value clients send
+        String objectTypeTag = objectType == null ? null
+                : Objects.requireNonNullElse(definitionResolver.resolveTypeName(objectType), ValidationMetrics.UNKNOWN);
+
         try {
-            RootXNode root = prismContext.parserFor(rawObject)
-                    .language(language.getValue())
-                    .context(parsingCtx)
-                    .parseToXNode();
-
-            if (validationParams.objectType() != null) {
-                QName typeQName = prismContext.getSchemaRegistry().qualifyTypeName(new QName(validationParams.objectType()));
-                var complexTypeDefinition = prismContext.getSchemaRegistry().findComplexTypeDefinitionByType(typeQName);
-
-                if (complexTypeDefinition == null) {
-                    throw new Exception("Complex type definition is null.");
-                } else {
-                    var containerDefinition = prismContext.definitionFactory().newContainerDefinition(new QName("value"), complexTypeDefinition);
-
-                    if (validationParams.itemPath() != null) {
-                        ItemPath itemPath = prismContext.itemPathParser().asItemPath(validationParams.itemPath());
-                        var itemDefinition = containerDefinition.findItemDefinition(itemPath);
-                        prismContext.parserFor(root).context(parsingCtx).definition(itemDefinition).parseItem();
-                    } else {
-                        prismContext.parserFor(root).context(parsingCtx).definition(containerDefinition).parseItem();
-                    }
-                }
+            RootXNode root = metrics.record(Stage.PARSE_TO_XNODE, language, objectTypeTag,
+                    () -> prismContext.parserFor(rawObject)
+                            .language(language.getValue())
+                            .context(parsingCtx)
+                            .parseToXNode());
+
+            if (objectType != null) {
+                ItemDefinition<?> definition = metrics.record(Stage.DEFINITION_RESOLUTION, language, objectTypeTag,
+                        () -> definitionResolver.resolve(objectType, validationParams.itemPath()));
+                metrics.record(Stage.PARSE, language, objectTypeTag,
+                        () -> prismContext.parserFor(root).context(parsingCtx).definition(definition).parseItem());
             } else {
-                prismContext.parserFor(root).context(parsingCtx).parse();
+                metrics.record(Stage.PARSE, language, null,
+                        () -> prismContext.parserFor(root).context(parsingCtx).parse());
             }
         } catch (Exception ignored) {
         } finally {
+            Timer.Sample sample = metrics.start();
             validationLogs = new ArrayList<>(parsingCtx.getWarnings());
+            metrics.stop(sample, Stage.LOG_COLLECTION, language, objectTypeTag);
+            metrics.countLogs(validationLogs.size(), language, objectTypeTag);
         }
 
         return validationLogs;
@@ -13,14 +13,22 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public record EvaluationResponse(
         Object transformedValue,
         String error,
-        String errorType
+        String errorType,
+        Long estimatedCost
 ) {
     public static EvaluationResponse success(Object transformedValue) {
-        return new EvaluationResponse(transformedValue, null, null);
+        return new EvaluationResponse(transformedValue, null, null, null);
     }
 
     public static EvaluationResponse error(String error, String errorType) {
-        return new EvaluationResponse(null, error, errorType);
+        return new EvaluationResponse(null, error, errorType, null);
+    }
+
+    /**
+     * Copy of this response with the cost of evaluation estimated before it was executed.
+     */
+    public EvaluationResponse withEstimatedCost(long estimatedCost) {
+        return new EvaluationResponse(transformedValue, error, errorType, estimatedCost);
     }
 
     public boolean isSuccess() {
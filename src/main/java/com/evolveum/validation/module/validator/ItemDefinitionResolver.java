@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import com.evolveum.midpoint.prism.ItemDefinition;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.prism.path.ItemPath;
+import com.evolveum.validation.config.CacheConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import javax.xml.namespace.QName;
+import java.util.Objects;
+
+/**
+ * Resolves definitions against which validated content is parsed.
+ *
+ * Resolved definitions are cached by (objectType, itemPath) pair, so the schema registry lookups are done only once
+ * for each pair. Type names used as metric tags are cached in the same cache.
+ */
+@Component
+public class ItemDefinitionResolver {
+
+    private final PrismContext prismContext;
+    private final Cache cache;
+
+    public ItemDefinitionResolver(PrismContext prismContext, CacheManager cacheManager) {
+        this.prismContext = prismContext;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.ITEM_DEFINITIONS));
+    }
+
+    /**
+     * Resolve definition of the item at {@code itemPath} in complex type {@code objectType}. If {@code itemPath}
+     * is null, definition of container with the complex type is returned.
+     *
+     * @return resolved definition, or null if there is no item at the {@code itemPath}.
+     * @throws Exception if complex type definition for {@code objectType} does not exist.
+     */
+    public ItemDefinition<?> resolve(String objectType, String itemPath) throws Exception {
+        try {
+            return cache.get(new Key(objectType, itemPath), () -> resolveUncached(objectType, itemPath));
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Local name of the complex type {@code objectType} refers to, or null if there is no such type. Unlike the raw
+     * value from the request, the result is limited to types of the schema, so it can be used as a metric tag.
+     * Resolved names (and misses) are cached together with definitions.
+     */
+    @Nullable
+    public String resolveTypeName(String objectType) {
+        return cache.get(new TypeNameKey(objectType), () -> resolveTypeNameUncached(objectType));
+    }
+
+    @Nullable
+    private String resolveTypeNameUncached(String objectType) {
+        try {
+            QName typeQName = prismContext.getSchemaRegistry().qualifyTypeName(new QName(objectType));
+            var complexTypeDefinition = prismContext.getSchemaRegistry().findComplexTypeDefinitionByType(typeQName);
+            return complexTypeDefinition != null ? complexTypeDefinition.getTypeName().getLocalPart() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private ItemDefinition<?> resolveUncached(String objectType, String itemPath) throws Exception {
+        QName typeQName = prismContext.getSchemaRegistry().qualifyTypeName(new QName(objectType));
+        var complexTypeDefinition = prismContext.getSchemaRegistry().findComplexTypeDefinitionByType(typeQName);
+
+        if (complexTypeDefinition == null) {
+            throw new Exception("Complex type definition is null.");
+        }
+
+        var containerDefinition = prismContext.definitionFactory().newContainerDefinition(new QName("value"), complexTypeDefinition);
+
+        if (itemPath == null) {
+            return containerDefinition;
+        }
+
+        ItemPath path = prismContext.itemPathParser().asItemPath(itemPath);
+        return containerDefinition.findItemDefinition(path);
+    }
+
+    private record Key(String objectType, String itemPath) {
+    }
+
+    private record TypeNameKey(String objectType) {
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import com.evolveum.concepts.ValidationLog;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * Validation result of one object of a multi-object document.
+ *
+ * @param index position of the object in the document, starting with 0
+ * @param oid oid of the object, null if the object has no oid or could not be parsed
+ * @param name name of the object, null if the object has no name or could not be parsed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ObjectValidationResult(
+        int index,
+        String oid,
+        String name,
+        @JsonSerialize(using = ValidationLogSerializer.class) List<ValidationLog> logs) {
+}
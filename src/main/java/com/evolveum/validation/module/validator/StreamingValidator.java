@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import com.evolveum.concepts.SourceLocation;
+import com.evolveum.concepts.TechnicalMessage;
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.concepts.ValidationLogType;
+import com.evolveum.midpoint.prism.ParsingContext;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.prism.PrismObject;
+import com.evolveum.midpoint.prism.PrismParser;
+import com.evolveum.midpoint.util.exception.SchemaException;
+import com.evolveum.validation.common.SupportedLanguage;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Validates documents with many objects ({@code <objects>} wrapper, JSON array, multi-document YAML) one object at
+ * a time.
+ *
+ * Objects are parsed iteratively from the input stream and each one is dropped right after its result is handed
+ * over, so the memory does not depend on the size of the document.
+ */
+@Component
+public class StreamingValidator {
+
+    private final PrismContext prismContext;
+
+    public StreamingValidator(PrismContext prismContext) {
+        this.prismContext = prismContext;
+    }
+
+    /**
+     * Validate all objects in the {@code input}, {@code resultConsumer} is called for each of them in document order.
+     * Failure to parse one object is reported in its result and the validation continues with the next object.
+     *
+     * @throws SchemaException, IOException if the document as a whole cannot be read.
+     */
+    public void validate(InputStream input, SupportedLanguage language, Consumer<ObjectValidationResult> resultConsumer)
+            throws SchemaException, IOException {
+        ParsingContext parsingCtx = prismContext.createParsingContextForCompatibilityMode().validation();
+
+        prismContext.parserFor(input)
+                .language(language.getValue())
+                .context(parsingCtx)
+                .parseObjectsIteratively(new PrismParser.ObjectHandler() {
+
+                    private int index;
+
+                    @Override
+                    public boolean handleData(PrismObject<?> object) {
+                        String name = object.getName() != null ? object.getName().getOrig() : null;
+                        resultConsumer.accept(new ObjectValidationResult(index++, object.getOid(), name, newWarnings()));
+                        return true;
+                    }
+
+                    @Override
+                    public boolean handleError(Throwable t) {
+                        List<ValidationLog> logs = newWarnings();
+                        logs.add(new ValidationLog(
+                                ValidationLogType.ERROR,
+                                ValidationLogType.Specification.UNKNOW,
+                                SourceLocation.unknown(),
+                                new TechnicalMessage(""),
+                                t.getMessage()
+                        ));
+                        resultConsumer.accept(new ObjectValidationResult(index++, null, null, logs));
+                        return true;
+                    }
+
+                    /**
+                     * Warnings of the object just parsed. They are moved out of the context, which is shared by
+                     * the whole document, so it holds warnings of one object only.
+                     */
+                    private List<ValidationLog> newWarnings() {
+                        var warnings = parsingCtx.getWarnings();
+                        List<ValidationLog> logs = new ArrayList<>(warnings);
+                        warnings.clear();
+                        return logs;
+                    }
+                });
+    }
+}
@@ -12,6 +12,8 @@ import com.evolveum.concepts.ValidationLog;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -19,8 +21,32 @@ import java.util.List;
 
 public class ValidationLogSerializer extends JsonSerializer<List<ValidationLog>> {
 
+    /**
+     * Set when the serializer is created by Spring configured object mapper, null otherwise.
+     */
+    private ValidationMetrics metrics;
+
+    @Autowired(required = false)
+    public void setMetrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public void serialize(List<ValidationLog> value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (metrics == null) {
+            write(value, gen);
+            return;
+        }
+
+        Timer.Sample sample = metrics.start();
+        try {
+            write(value, gen);
+        } finally {
+            metrics.stop(sample, ValidationMetrics.Stage.SERIALIZATION, null, null);
+        }
+    }
+
+    private void write(List<ValidationLog> value, JsonGenerator gen) throws IOException {
         gen.writeStartArray();
 
         for (ValidationLog log : value) {
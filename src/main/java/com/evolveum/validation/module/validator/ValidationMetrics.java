@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import com.evolveum.validation.common.SupportedLanguage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Callable;
+
+/**
+ * Timers of the validation pipeline stages and counters of validation outcomes.
+ *
+ * Meters are tagged by stage, language and objectType and published on the actuator metrics and prometheus
+ * endpoints as {@code validation.stage} timer and {@code validation.logs} counter. The objectType tag must be a type
+ * known to the schema (see {@link ItemDefinitionResolver#resolveTypeName(String)}), {@link #UNKNOWN} or null, never
+ * the raw value from the request, otherwise the number of meters is not bounded.
+ */
+@Component
+public class ValidationMetrics {
+
+    private static final String NONE = "none";
+
+    public static final String UNKNOWN = "unknown";
+
+    public enum Stage {
+        LANGUAGE_DETECTION,
+        PARSE_TO_XNODE,
+        DEFINITION_RESOLUTION,
+        PARSE,
+        LOG_COLLECTION,
+        SERIALIZATION
+    }
+
+    private final MeterRegistry registry;
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Run the {@code callable} and record its duration (including failed runs) as the {@code stage}.
+     */
+    public <T> T record(Stage stage, @Nullable SupportedLanguage language, @Nullable String objectType,
+            Callable<T> callable) throws Exception {
+        Timer.Sample sample = start();
+        try {
+            return callable.call();
+        } finally {
+            stop(sample, stage, language, objectType);
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, Stage stage, @Nullable SupportedLanguage language, @Nullable String objectType) {
+        sample.stop(Timer.builder("validation.stage")
+                .description("Duration of validation pipeline stage")
+                .tag("stage", stage.name().toLowerCase())
+                .tag("language", language != null ? language.getValue() : NONE)
+                .tag("objectType", objectType != null ? objectType : NONE)
+                .register(registry));
+    }
+
+    public void countLogs(int logs, @Nullable SupportedLanguage language, @Nullable String objectType) {
+        Counter.builder("validation.logs")
+                .description("Number of validation logs produced by validation")
+                .tag("language", language != null ? language.getValue() : NONE)
+                .tag("objectType", objectType != null ? objectType : NONE)
+                .register(registry)
+                .increment(logs);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator;
+
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.config.CacheConfiguration;
+import com.evolveum.validation.util.HashUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache of validation results keyed by content hash of the validated code and everything else the result depends on
+ * (e.g. language and validation params).
+ *
+ * Repeated validation of the same code returns the cached logs and skips parsing entirely. The cache can be
+ * inspected and cleared by the actuator {@code caches} endpoint. The bean caches results of XML, JSON and YAML
+ * validation, other validators create their own instance backed by a separate cache.
+ */
+@Component
+public class ValidationResultCache {
+
+    private final Cache cache;
+
+    @Autowired
+    public ValidationResultCache(CacheManager cacheManager) {
+        this(cacheManager, CacheConfiguration.VALIDATION_RESULTS);
+    }
+
+    public ValidationResultCache(CacheManager cacheManager, String cacheName) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+    }
+
+    /**
+     * Return cached validation logs of the {@code code} in the {@code language}, or run the {@code validation} and
+     * cache its result.
+     */
+    public List<ValidationLog> get(String code, SupportedLanguage language, ValidationParams params,
+            Callable<List<ValidationLog>> validation) throws Exception {
+        return get(code, new LanguageParams(language, params), validation);
+    }
+
+    /**
+     * Return cached validation logs of the {@code code}, or run the {@code validation} and cache its result.
+     * The {@code params} must implement equals and hashCode (e.g. a record). Failed validations (thrown exceptions)
+     * are not cached.
+     */
+    public List<ValidationLog> get(String code, Object params, Callable<List<ValidationLog>> validation)
+            throws Exception {
+        if (code == null) {
+            return validation.call();
+        }
+
+        try {
+            return cache.get(new Key(HashUtils.sha256Hex(code), params), () -> List.copyOf(validation.call()));
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private record LanguageParams(SupportedLanguage language, ValidationParams params) {
+    }
+
+    private record Key(String contentHash, Object params) {
+    }
+}
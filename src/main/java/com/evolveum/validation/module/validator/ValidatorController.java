@@ -7,9 +7,19 @@
 
 package com.evolveum.validation.module.validator;
 
+import com.evolveum.concepts.SourceLocation;
+import com.evolveum.concepts.TechnicalMessage;
 import com.evolveum.concepts.ValidationLog;
+import com.evolveum.concepts.ValidationLogType;
 import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.config.ExecutorConfiguration;
+import com.evolveum.validation.util.LanguageUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,7 +27,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Created by Dominik.
@@ -27,10 +42,29 @@ import java.util.List;
 public class ValidatorController {
 
     private final ValidatorProvider<ValidationParams> validatorProvider;
+    private final ValidationResultCache resultCache;
+    private final ExecutorService validationExecutor;
+    private final StreamingValidator streamingValidator;
+    private final ObjectMapper objectMapper;
+    private final ValidationMetrics metrics;
+    private final int batchMaxEntries;
 
     @Autowired
-    public ValidatorController(ValidatorProvider<ValidationParams> validatorProvider) {
+    public ValidatorController(
+            ValidatorProvider<ValidationParams> validatorProvider,
+            ValidationResultCache resultCache,
+            @Qualifier(ExecutorConfiguration.VALIDATION_EXECUTOR) ExecutorService validationExecutor,
+            StreamingValidator streamingValidator,
+            ObjectMapper objectMapper,
+            ValidationMetrics metrics,
+            @Value("${validation.batch.max-entries:500}") int batchMaxEntries) {
         this.validatorProvider = validatorProvider;
+        this.resultCache = resultCache;
+        this.validationExecutor = validationExecutor;
+        this.streamingValidator = streamingValidator;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.batchMaxEntries = batchMaxEntries;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_XML_VALUE)
@@ -48,12 +82,113 @@ public class ValidatorController {
         return validate(codeSnippet, params, SupportedLanguage.YAML);
     }
 
+    /**
+     * Validate all entries in parallel. Responses are returned in the same order as the entries, a failure of one
+     * entry is reported as error log of its response and does not affect the other entries.
+     */
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> handleBatch(@RequestBody List<BatchValidationEntry> entries) {
+        if (entries.size() > batchMaxEntries) {
+            return ResponseEntity.badRequest()
+                    .body("Batch contains %d entries, maximum is %d.".formatted(entries.size(), batchMaxEntries));
+        }
+
+        List<CompletableFuture<ValidationResponse>> futures = entries.stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> validateEntry(entry), validationExecutor))
+                .toList();
+
+        return ResponseEntity.ok(futures.stream()
+                .map(CompletableFuture::join)
+                .toList());
+    }
+
+    @PostMapping(path = "/stream", consumes = MediaType.APPLICATION_XML_VALUE)
+    public void handleXmlStream(InputStream body, HttpServletResponse response) throws IOException {
+        validateStream(body, SupportedLanguage.XML, response);
+    }
+
+    @PostMapping(path = "/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void handleJsonStream(InputStream body, HttpServletResponse response) throws IOException {
+        validateStream(body, SupportedLanguage.JSON, response);
+    }
+
+    @PostMapping(path = "/stream", consumes = MediaType.APPLICATION_YAML_VALUE)
+    public void handleYamlStream(InputStream body, HttpServletResponse response) throws IOException {
+        validateStream(body, SupportedLanguage.YAML, response);
+    }
+
     private ResponseEntity<?> validate(@RequestBody String codeSnippet, ValidationParams params, SupportedLanguage contentType) {
         try {
-            List<ValidationLog> logs = validatorProvider.getValidator(params).validate(codeSnippet, contentType);
-            return ResponseEntity.ok(new ValidationResponse(logs));
+            return ResponseEntity.ok(new ValidationResponse(validateCached(codeSnippet, params, contentType)));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(e);
         }
     }
+
+    private ValidationResponse validateEntry(BatchValidationEntry entry) {
+        try {
+            SupportedLanguage language;
+            if (entry.language() != null) {
+                language = SupportedLanguage.fromValue(entry.language()).orElse(null);
+            } else if (entry.content() != null) {
+                language = metrics.record(ValidationMetrics.Stage.LANGUAGE_DETECTION, null, null,
+                        () -> LanguageUtils.detectLanguage(entry.content()));
+            } else {
+                language = null;
+            }
+
+            if (language == null || language == SupportedLanguage.MEL) {
+                throw new IllegalArgumentException("Unsupported language: " + entry.language());
+            }
+
+            ValidationParams params = new ValidationParams(entry.objectType(), entry.itemPath());
+            return new ValidationResponse(validateCached(entry.content(), params, language));
+        } catch (Exception e) {
+            return new ValidationResponse(List.of(errorLog(e.getMessage())));
+        }
+    }
+
+    /**
+     * Validate objects of the document one by one and write the result of each object to the response as soon as
+     * it is known, so neither the document nor the results are held in memory.
+     */
+    private void validateStream(InputStream body, SupportedLanguage language, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            try {
+                streamingValidator.validate(body, language, result -> {
+                    try {
+                        objectMapper.writeValue(generator, result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (Exception e) {
+                // response is already committed, failure of the whole document is reported as its last entry
+                objectMapper.writeValue(generator, new ObjectValidationResult(-1, null, null, List.of(errorLog(e.getMessage()))));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private List<ValidationLog> validateCached(String codeSnippet, ValidationParams params, SupportedLanguage contentType)
+            throws Exception {
+        return resultCache.get(codeSnippet, contentType, params,
+                () -> validatorProvider.getValidator(params).validate(codeSnippet, contentType));
+    }
+
+    private static ValidationLog errorLog(String message) {
+        return new ValidationLog(
+                ValidationLogType.ERROR,
+                ValidationLogType.Specification.UNKNOW,
+                SourceLocation.unknown(),
+                new TechnicalMessage(""),
+                message
+        );
+    }
 }
@@ -7,14 +7,26 @@
 
 package com.evolveum.validation.module.validator;
 
+import com.evolveum.midpoint.prism.PrismContext;
 import org.springframework.stereotype.Component;
 
 
 @Component
 public class ValidatorProviderImpl implements ValidatorProvider<ValidationParams> {
 
+    private final PrismContext prismContext;
+    private final ItemDefinitionResolver definitionResolver;
+    private final ValidationMetrics metrics;
+
+    public ValidatorProviderImpl(PrismContext prismContext, ItemDefinitionResolver definitionResolver,
+            ValidationMetrics metrics) {
+        this.prismContext = prismContext;
+        this.definitionResolver = definitionResolver;
+        this.metrics = metrics;
+    }
+
     @Override
     public CodeValidator getValidator(ValidationParams params) {
-        return new CodeValidatorImpl(params);
+        return new CodeValidatorImpl(prismContext, definitionResolver, metrics, params);
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.groovy;
+
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Class loaders used by compilations of one {@link GroovyValidator}.
+ *
+ * One loader is shared by compilations until it has served {@code maxCompilations} of them. Then it is retired and
+ * a new loader takes its place. Compilations that acquired the loader concurrently with the one reaching the limit
+ * still use it, so a loader may serve a few more compilations than the limit. Retired loader is closed and its class cache cleared when the last compilation using
+ * it ends, so nothing holds it and classes loaded through it can be unloaded.
+ *
+ * Each loader has its own {@link SharedClassNodeResolver}, class nodes resolved through one loader are reused by all
+ * compilations using that loader and are dropped together with it.
+ */
+final class GroovyClassLoaders {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GroovyClassLoaders.class);
+
+    private final ClassLoader parent;
+    private final CompilerConfiguration configuration;
+    private final int maxCompilations;
+
+    private final AtomicReference<Generation> current = new AtomicReference<>();
+    private final Set<Generation> live = ConcurrentHashMap.newKeySet();
+    private final AtomicLong recycled = new AtomicLong();
+
+    GroovyClassLoaders(ClassLoader parent, CompilerConfiguration configuration, int maxCompilations) {
+        this.parent = parent;
+        this.configuration = configuration;
+        this.maxCompilations = maxCompilations;
+        this.current.set(newGeneration());
+    }
+
+    /**
+     * Loader for one compilation. It must be returned by {@link #release(Generation)} when the compilation ends.
+     */
+    Generation acquire() {
+        while (true) {
+            Generation generation = current.get();
+            generation.inFlight.incrementAndGet();
+            if (generation.retired) {
+                // retired between reading and acquiring, try the new one
+                release(generation);
+                continue;
+            }
+
+            // exactly one compilation reaches the limit, only that one creates the replacement
+            if (maxCompilations > 0 && generation.compilations.incrementAndGet() == maxCompilations) {
+                current.set(newGeneration());
+                generation.retired = true;
+                recycled.incrementAndGet();
+            }
+            return generation;
+        }
+    }
+
+    void release(Generation generation) {
+        if (generation.inFlight.decrementAndGet() == 0 && generation.retired) {
+            generation.close();
+            live.remove(generation);
+        }
+    }
+
+    /**
+     * Number of loaders that were not closed yet, including the current one.
+     */
+    int liveLoaderCount() {
+        return live.size();
+    }
+
+    /**
+     * Number of class nodes (and unresolvable names) cached by resolvers of the live loaders.
+     */
+    int resolvedClassNodeCount() {
+        return live.stream()
+                .mapToInt(generation -> generation.classNodeResolver.size())
+                .sum();
+    }
+
+    long recycledCount() {
+        return recycled.get();
+    }
+
+    private Generation newGeneration() {
+        Generation generation = new Generation(new GroovyClassLoader(parent, configuration));
+        live.add(generation);
+        return generation;
+    }
+
+    static final class Generation {
+
+        private final GroovyClassLoader loader;
+        private final SharedClassNodeResolver classNodeResolver = new SharedClassNodeResolver();
+        private final AtomicInteger compilations = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        private Generation(GroovyClassLoader loader) {
+            this.loader = loader;
+        }
+
+        GroovyClassLoader loader() {
+            return loader;
+        }
+
+        SharedClassNodeResolver classNodeResolver() {
+            return classNodeResolver;
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            loader.clearCache();
+            try {
+                loader.close();
+            } catch (IOException e) {
+                LOG.warn("Groovy class loader could not be closed", e);
+            }
+        }
+    }
+}
@@ -7,29 +7,57 @@
 
 package com.evolveum.validation.module.validator.groovy;
 
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.validation.config.CacheConfiguration;
+import com.evolveum.validation.module.validator.CodeValidator;
 import com.evolveum.validation.module.validator.ValidationResult;
+import com.evolveum.validation.module.validator.ValidationResultCache;
 import com.evolveum.validation.module.validator.ValidatorProvider;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping(path = "/validate", consumes = "text/x-groovy")
 public class GroovyValidationController {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GroovyValidationController.class);
+
     private final ValidatorProvider<GroovyValidationParams> validatorProvider;
+    private final ValidationResultCache resultCache;
 
-    public GroovyValidationController(ValidatorProvider<GroovyValidationParams> validatorProvider) {
+    public GroovyValidationController(ValidatorProvider<GroovyValidationParams> validatorProvider,
+            CacheManager cacheManager) {
         this.validatorProvider = validatorProvider;
+        this.resultCache = new ValidationResultCache(cacheManager, CacheConfiguration.GROOVY_VALIDATION_RESULTS);
     }
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ValidationResult> validate(String codeSnippet, @Valid GroovyValidationParams configuration) {
-        System.out.println(configuration);
+    public ResponseEntity<?> validate(@RequestBody String codeSnippet, @Valid GroovyValidationParams configuration) {
+        final CodeValidator validator;
+        try {
+            validator = validatorProvider.getValidator(configuration);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
-        return ResponseEntity.ok(new ValidationResult(null));
+        try {
+            List<ValidationLog> logs = resultCache.get(codeSnippet, configuration,
+                    () -> validator.validate(codeSnippet, null));
+            return ResponseEntity.ok(new ValidationResult(logs));
+        } catch (Exception e) {
+            LOG.error("Error during Groovy validation", e);
+            return ResponseEntity.internalServerError()
+                    .body("Error during Groovy validation: " + e.getClass().getName() + ": " + e.getMessage());
+        }
     }
 }
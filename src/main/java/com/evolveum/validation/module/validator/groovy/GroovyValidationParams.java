@@ -7,13 +7,15 @@
 
 package com.evolveum.validation.module.validator.groovy;
 
-import groovy.lang.Script;
 import jakarta.validation.constraints.NotNull;
 
+/**
+ * @param scriptBaseClass fully qualified name of the {@link groovy.lang.Script} subclass the snippet is compiled with
+ */
 public record GroovyValidationParams(
         SnippetType type,
 
         @NotNull(message = "Script base class is required.")
-        Class<? extends Script> scriptBaseClass) {
+        String scriptBaseClass) {
 
 }
@@ -15,11 +15,12 @@ import com.evolveum.validation.common.SupportedLanguage;
 import com.evolveum.validation.module.validator.CodeValidator;
 import com.evolveum.validation.module.validator.EvaluationResponse;
 
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import groovy.transform.CompileStatic;
+import org.codehaus.groovy.control.CompilationUnit;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.codehaus.groovy.control.Phases;
 import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,22 +34,52 @@ public class GroovyValidator implements CodeValidator {
 
     private static final Logger LOG = LoggerFactory.getLogger(GroovyValidator.class);
 
-    private final Class<? extends Script> baseScriptClass;
+    private static final String SCRIPT_NAME = "Script.groovy";
+
+    private static final int DEFAULT_MAX_COMPILATIONS = 1000;
+
+    private static final String ASM_RESOLVING = "asmResolving";
+
+    /**
+     * Compiler settings and class loaders are prepared for the base script class and shared by validations of all
+     * snippets, which may run concurrently. AST transformations keep state of the compilation they run in, so each
+     * compilation gets its own copy of the settings with its own {@link CompileStatic} customizer.
+     */
+    private final CompilerConfiguration configuration;
+    private final GroovyClassLoaders classLoaders;
 
     public GroovyValidator(Class<? extends Script> baseScriptClass) {
-        this.baseScriptClass = baseScriptClass;
+        this(baseScriptClass, DEFAULT_MAX_COMPILATIONS);
+    }
+
+    /**
+     * @param maxCompilations number of compilations after which the class loader is replaced by a new one,
+     * 0 to keep one loader forever
+     */
+    public GroovyValidator(Class<? extends Script> baseScriptClass, int maxCompilations) {
+        this.configuration = new CompilerConfiguration();
+        this.configuration.setScriptBaseClass(baseScriptClass.getName());
+        // Referenced classes are resolved by class loading instead of decompiling their bytecode. Such class nodes
+        // do not refer to the compilation unit, so they can be shared by compilations, see SharedClassNodeResolver.
+        this.configuration.getOptimizationOptions().put(ASM_RESOLVING, false);
+        this.classLoaders = new GroovyClassLoaders(baseScriptClass.getClassLoader(), configuration, maxCompilations);
+    }
+
+    GroovyClassLoaders getClassLoaders() {
+        return classLoaders;
     }
 
     @Override
     public List<ValidationLog> validate(String script, SupportedLanguage language) {
-        final CompilerConfiguration config = new CompilerConfiguration();
-        config.setScriptBaseClass(this.baseScriptClass.getName());
-        config.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
-
+        final GroovyClassLoaders.Generation loader = classLoaders.acquire();
         try {
-            final GroovyShell shell = new GroovyShell(config);
-            LOG.trace("Parsing script:\n{}", script);
-            shell.parse(script);
+            // Static type checking of CompileStatic runs in the instruction selection phase. Compilation stops there,
+            // so no bytecode is generated and no class is defined for the validated script.
+            final CompilationUnit unit = new CompilationUnit(compilationConfiguration(), null, loader.loader());
+            unit.setClassNodeResolver(loader.classNodeResolver());
+            unit.addSource(SCRIPT_NAME, script);
+            LOG.trace("Compiling script:\n{}", script);
+            unit.compile(Phases.INSTRUCTION_SELECTION);
         } catch (MultipleCompilationErrorsException e) {
             return e.getErrorCollector().getErrors().stream()
                     .map(m -> {
@@ -57,10 +88,18 @@ public class GroovyValidator implements CodeValidator {
                         return new ValidationLog(ValidationLogType.WARNING, ValidationLogType.Specification.UNKNOW, SourceLocation.unknown(), new TechnicalMessage(""), stringWriter.toString());
                     })
                     .toList();
+        } finally {
+            classLoaders.release(loader);
         }
         return Collections.emptyList();
     }
 
+    private CompilerConfiguration compilationConfiguration() {
+        final CompilerConfiguration compilation = new CompilerConfiguration(configuration);
+        compilation.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        return compilation;
+    }
+
     @Override
     public List<ValidationLog> validate(String code, String variableName, Class<?> variableType, Object testValue) {
         throw new UnsupportedOperationException("This version of validate method is not supported");
@@ -7,16 +7,73 @@
 
 package com.evolveum.validation.module.validator.groovy;
 
-import com.evolveum.validation.module.validator.CodeValidator;
 import com.evolveum.validation.module.validator.ValidatorProvider;
+import groovy.lang.Script;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 final class GroovyValidatorProviderImpl implements ValidatorProvider<GroovyValidationParams> {
 
+    /**
+     * One validator per base script class. The validator holds compiler configuration and class loader prepared for
+     * its base class, so they are not created again for every validated snippet.
+     */
+    private final Map<String, GroovyValidator> validators = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final int maxCompilationsPerLoader;
+
+    GroovyValidatorProviderImpl(
+            MeterRegistry meterRegistry,
+            @Value("${validation.groovy.loader.max-compilations:1000}") int maxCompilationsPerLoader) {
+        this.meterRegistry = meterRegistry;
+        this.maxCompilationsPerLoader = maxCompilationsPerLoader;
+    }
+
     @Override
-    public CodeValidator getValidator(GroovyValidationParams validationParams) {
-        return new GroovyValidator(validationParams.scriptBaseClass());
+    public GroovyValidator getValidator(GroovyValidationParams validationParams) {
+        return validators.computeIfAbsent(validationParams.scriptBaseClass(), className -> {
+            GroovyValidator validator = new GroovyValidator(resolveBaseClass(className), maxCompilationsPerLoader);
+            bindMetrics(className, validator.getClassLoaders());
+            return validator;
+        });
     }
 
+    private void bindMetrics(String baseClass, GroovyClassLoaders classLoaders) {
+        Gauge.builder("groovy.classloader.loaders", classLoaders, GroovyClassLoaders::liveLoaderCount)
+                .description("Groovy class loaders not closed yet")
+                .tag("baseClass", baseClass)
+                .register(meterRegistry);
+        Gauge.builder("groovy.classnode.cache.size", classLoaders, GroovyClassLoaders::resolvedClassNodeCount)
+                .description("Class nodes cached by shared resolvers of live Groovy class loaders")
+                .tag("baseClass", baseClass)
+                .register(meterRegistry);
+        FunctionCounter.builder("groovy.classloader.recycled", classLoaders, GroovyClassLoaders::recycledCount)
+                .description("Groovy class loaders replaced after reaching the compilation limit")
+                .tag("baseClass", baseClass)
+                .register(meterRegistry);
+    }
+
+    private static Class<? extends Script> resolveBaseClass(String className) {
+        final Class<?> baseClass;
+        try {
+            // the class is not initialized, only its compile-time structure is needed
+            baseClass = Class.forName(className, false, GroovyValidatorProviderImpl.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown script base class: " + className, e);
+        }
+
+        if (!Script.class.isAssignableFrom(baseClass)) {
+            throw new IllegalArgumentException("Script base class %s is not a subclass of %s."
+                    .formatted(className, Script.class.getName()));
+        }
+        return baseClass.asSubclass(Script.class);
+    }
 }
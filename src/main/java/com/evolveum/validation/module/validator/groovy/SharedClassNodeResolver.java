@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.groovy;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.decompiled.DecompiledClassNode;
+import org.codehaus.groovy.control.ClassNodeResolver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class node resolver shared by concurrent compilations using the same class loader.
+ *
+ * Default resolver is created for every compilation unit, so each compilation resolves the JDK, Groovy and base script
+ * classes (and misses of default imports) again. This one keeps resolved class nodes, and names which could not be
+ * resolved, in a concurrent map. It must not outlive its class loader, see {@link GroovyClassLoaders}.
+ *
+ * Only class nodes of loaded classes are shared, such nodes are independent of the compilation that resolved them (the
+ * same way as nodes cached by {@code ClassHelper}). Nodes decompiled from bytecode keep a reference to their
+ * compilation unit, they are not cached at all and {@link GroovyValidator} disables decompiling.
+ */
+final class SharedClassNodeResolver extends ClassNodeResolver {
+
+    private final Map<String, ClassNode> cachedClasses = new ConcurrentHashMap<>();
+
+    @Override
+    public void cacheClass(String name, ClassNode res) {
+        if (res instanceof DecompiledClassNode) {
+            return;
+        }
+        cachedClasses.put(name, res);
+    }
+
+    @Override
+    public ClassNode getFromClassCache(String name) {
+        return cachedClasses.get(name);
+    }
+
+    int size() {
+        return cachedClasses.size();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Evaluation of one MEL script with many test values of the variable.
+ */
+public record MelBatchEvaluationParams(
+        @NotNull(message = "Script is required.")
+        String script,
+
+        @NotNull(message = "Variable name is required.")
+        String variableName,
+
+        @NotNull(message = "Variable type is required.")
+        String variableType,
+
+        @NotNull(message = "Test values are required.")
+        List<String> testValues) {
+
+}
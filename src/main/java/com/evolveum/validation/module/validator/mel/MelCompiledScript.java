@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import dev.cel.common.CelAbstractSyntaxTree;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Result of compilation of MEL script.
+ *
+ * @param ast syntax tree of the script, null if the script could not be parsed
+ * @param errors compilation errors, empty if the script is valid
+ */
+public record MelCompiledScript(@Nullable CelAbstractSyntaxTree ast, List<String> errors) {
+
+    static MelCompiledScript success(CelAbstractSyntaxTree ast) {
+        return new MelCompiledScript(ast, List.of());
+    }
+
+    static MelCompiledScript failure(String error) {
+        return new MelCompiledScript(null, List.of(error));
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * MEL script with several variables (e.g. {@code focus}, {@code projection}, {@code input}) keyed by their names.
+ */
+public record MelContextParams(
+        @NotNull(message = "Script is required.")
+        String script,
+
+        @NotNull(message = "Variables are required.")
+        Map<String, @Valid @NotNull(message = "Variable definition is required.") MelVariable> variables) {
+
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+/**
+ * Estimated cost of MEL script evaluation, see {@link MelCostEstimator}.
+ *
+ * @param cost estimated number of evaluation steps
+ * @param depth nesting depth of the syntax tree
+ * @param comprehensions number of comprehensions (macros iterating over collections)
+ */
+public record MelCostEstimate(long cost, int depth, int comprehensions) {
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.Containerable;
+import com.evolveum.midpoint.prism.Item;
+import com.evolveum.midpoint.prism.path.ItemPath;
+import dev.cel.common.CelAbstractSyntaxTree;
+import dev.cel.common.ast.CelExpr;
+import dev.cel.common.ast.CelExpr.CelComprehension;
+import dev.cel.common.navigation.CelNavigableAst;
+import dev.cel.common.navigation.CelNavigableExpr;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * Estimates cost of MEL script evaluation from its syntax tree, without executing it.
+ *
+ * Every node costs one, nodes of the loop of a comprehension (e.g. {@code map}, {@code filter}, {@code all}) cost as
+ * many times as there are elements in the iterated collection. Size of the collection is taken from the test value if the
+ * comprehension iterates over a variable or over an item of a prism variable, {@link #DEFAULT_COLLECTION_SIZE}
+ * otherwise. Nested comprehensions multiply.
+ */
+public class MelCostEstimator {
+
+    static final int DEFAULT_COLLECTION_SIZE = 10;
+
+    private final long maxCost;
+
+    public MelCostEstimator(long maxCost) {
+        this.maxCost = maxCost;
+    }
+
+    /**
+     * Scripts with higher estimated cost are not evaluated.
+     */
+    public long getMaxCost() {
+        return maxCost;
+    }
+
+    public boolean isAllowed(MelCostEstimate estimate) {
+        return estimate.cost() <= maxCost;
+    }
+
+    public MelCostEstimate estimate(CelAbstractSyntaxTree ast, MelVariableContext variables) {
+        Estimation estimation = new Estimation(variables);
+        estimation.visit(CelNavigableAst.fromAst(ast).getRoot(), 1, 1);
+        return new MelCostEstimate(estimation.cost, estimation.maxDepth, estimation.comprehensions);
+    }
+
+    private static class Estimation {
+
+        private final MelVariableContext variables;
+
+        private long cost;
+        private int maxDepth;
+        private int comprehensions;
+
+        Estimation(MelVariableContext variables) {
+            this.variables = variables;
+        }
+
+        void visit(CelNavigableExpr node, int depth, long multiplier) {
+            cost = saturatedAdd(cost, multiplier);
+            maxDepth = Math.max(maxDepth, depth);
+
+            if (node.getKind() != CelExpr.ExprKind.Kind.COMPREHENSION) {
+                node.children().forEach(child -> visit(child, depth + 1, multiplier));
+                return;
+            }
+
+            comprehensions++;
+            CelComprehension comprehension = node.expr().comprehension();
+            long iterations = saturatedMultiply(multiplier, collectionSize(comprehension.iterRange()));
+            long loopConditionId = comprehension.loopCondition().id();
+            long loopStepId = comprehension.loopStep().id();
+            node.children().forEach(child -> {
+                long childId = child.expr().id();
+                boolean inLoop = childId == loopConditionId || childId == loopStepId;
+                visit(child, depth + 1, inLoop ? iterations : multiplier);
+            });
+        }
+
+        private int collectionSize(CelExpr expr) {
+            Deque<String> path = new ArrayDeque<>();
+            CelExpr current = expr;
+            while (current.getKind() == CelExpr.ExprKind.Kind.SELECT) {
+                path.push(current.select().field());
+                current = current.select().operand();
+            }
+            if (current.getKind() != CelExpr.ExprKind.Kind.IDENT) {
+                return DEFAULT_COLLECTION_SIZE;
+            }
+
+            String variableName = current.ident().name();
+            Object value = variables.values().stream()
+                    .filter(variable -> variable.name().equals(variableName))
+                    .map(MelVariableValue::value)
+                    .findFirst()
+                    .orElse(null);
+
+            if (path.isEmpty()) {
+                return sizeOf(value);
+            }
+            if (value instanceof Containerable containerable) {
+                try {
+                    Item<?, ?> item = containerable.asPrismContainerValue().findItem(ItemPath.create(path.toArray()));
+                    return item != null ? item.size() : 0;
+                } catch (RuntimeException e) {
+                    // path through multi-valued container, size is not known
+                    return DEFAULT_COLLECTION_SIZE;
+                }
+            }
+            return DEFAULT_COLLECTION_SIZE;
+        }
+
+        private static int sizeOf(Object value) {
+            if (value instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (value instanceof Map<?, ?> map) {
+                return map.size();
+            }
+            return DEFAULT_COLLECTION_SIZE;
+        }
+
+        private static long saturatedAdd(long a, long b) {
+            long result = a + b;
+            return result < 0 ? Long.MAX_VALUE : result;
+        }
+
+        private static long saturatedMultiply(long a, long b) {
+            return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.PrismObject;
+import com.evolveum.validation.common.SupportedLanguage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Upload of prism objects used as test values of MEL variables, see {@link MelFixtureRegistry}.
+ */
+@RestController
+@RequestMapping(path = "/fixtures")
+public class MelFixtureController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MelFixtureController.class);
+
+    private final MelFixtureRegistry fixtureRegistry;
+
+    public MelFixtureController(MelFixtureRegistry fixtureRegistry) {
+        this.fixtureRegistry = fixtureRegistry;
+    }
+
+    @PutMapping(path = "/{name}", consumes = MediaType.APPLICATION_XML_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> registerXml(@PathVariable String name, InputStream body) {
+        return register(name, body, SupportedLanguage.XML);
+    }
+
+    @PutMapping(path = "/{name}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> registerJson(@PathVariable String name, InputStream body) {
+        return register(name, body, SupportedLanguage.JSON);
+    }
+
+    @PutMapping(path = "/{name}", consumes = MediaType.APPLICATION_YAML_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> registerYaml(@PathVariable String name, InputStream body) {
+        return register(name, body, SupportedLanguage.YAML);
+    }
+
+    @DeleteMapping(path = "/{name}")
+    public ResponseEntity<Void> remove(@PathVariable String name) {
+        fixtureRegistry.remove(name);
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<?> register(String name, InputStream body, SupportedLanguage language) {
+        try {
+            PrismObject<?> object = fixtureRegistry.register(name, body, language);
+            return ResponseEntity.ok(new MelFixtureResponse(
+                    name, object.getCompileTimeClass().getName(), object.getOid()));
+        } catch (Exception e) {
+            LOG.debug("Fixture {} could not be parsed", name, e);
+            return ResponseEntity.badRequest()
+                    .body("Fixture could not be parsed: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registered fixture. Type is the value to use as {@code variableType} of variables referring to the fixture.
+     */
+    public record MelFixtureResponse(String name, String type, String oid) {
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.Objectable;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.prism.PrismObject;
+import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.config.CacheConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Named prism objects (e.g. a complete {@code UserType}), which are used as test values of MEL variables.
+ *
+ * Objects are parsed once, when uploaded, and kept in the {@link CacheConfiguration#MEL_FIXTURES} cache, which evicts
+ * them when it is full or when they are not used for a while. Objects are frozen, so one fixture can be used by
+ * concurrent evaluations.
+ */
+@Component
+public class MelFixtureRegistry {
+
+    private final PrismContext prismContext;
+    private final Cache fixtures;
+
+    public MelFixtureRegistry(PrismContext prismContext, CacheManager cacheManager) {
+        this.prismContext = prismContext;
+        this.fixtures = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.MEL_FIXTURES));
+    }
+
+    /**
+     * Parse the object and store it under the {@code name}, replacing previous fixture of the same name. Objects without
+     * compile-time class can not be used as typed variables, so they are rejected and not stored.
+     */
+    public PrismObject<?> register(String name, InputStream input, SupportedLanguage language) throws Exception {
+        PrismObject<Objectable> object = prismContext.parserFor(input)
+                .language(language.getValue())
+                .parse();
+        if (object.getCompileTimeClass() == null) {
+            throw new IllegalArgumentException("Fixture " + name + " is not an object of a known midPoint type.");
+        }
+        object.freeze();
+        fixtures.put(name, object);
+        return object;
+    }
+
+    public Optional<Objectable> find(String name) {
+        PrismObject<?> object = fixtures.get(name, PrismObject.class);
+        return Optional.ofNullable(object).map(PrismObject::asObjectable);
+    }
+
+    public void remove(String name) {
+        fixtures.evict(name);
+    }
+}
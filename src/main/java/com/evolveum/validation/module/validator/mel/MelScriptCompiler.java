@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.ItemDefinition;
+import dev.cel.common.CelAbstractSyntaxTree;
+import dev.cel.common.CelValidationException;
+import dev.cel.common.CelValidationResult;
+import dev.cel.common.ast.CelExpr;
+import dev.cel.common.navigation.CelNavigableAst;
+import dev.cel.common.navigation.CelNavigableExpr;
+import dev.cel.extensions.CelExtensions;
+import dev.cel.extensions.CelOptionalLibrary;
+import dev.cel.parser.CelParser;
+import dev.cel.parser.CelParserFactory;
+import dev.cel.parser.CelStandardMacro;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Checks MEL scripts before they are passed to the script evaluator.
+ *
+ * Results of the check are cached by the script text and the declarations of variables, so repeated validation or
+ * evaluation of the same script (e.g. with different test values) is not checked again, and scripts with errors
+ * are rejected without reaching the evaluator. The evaluator compiles accepted scripts itself, its compiled programs
+ * are not accessible from outside.
+ *
+ * Scripts are never executed here. Besides syntax, item paths rooted in variables of prism types
+ * (e.g. {@code focus.assignment.targetRef} for a {@code UserType} variable) are checked against the prism schema.
+ */
+public class MelScriptCompiler {
+
+    /**
+     * Parser accepts the same syntax as MEL: standard macros, optional values ({@code a.?b}, {@code [?x]}) and macros
+     * of the bindings extension ({@code cel.bind}). Script rejected here must be rejected by MEL as well.
+     */
+    private final CelParser parser = CelParserFactory.standardCelParserBuilder()
+            .setStandardMacros(CelStandardMacro.STANDARD_MACROS)
+            .addLibraries(CelOptionalLibrary.INSTANCE, CelExtensions.bindings())
+            .build();
+
+    private final Cache cache;
+    private final MelTypeDeclarations typeDeclarations;
+
+    public MelScriptCompiler(Cache cache, MelTypeDeclarations typeDeclarations) {
+        this.cache = cache;
+        this.typeDeclarations = typeDeclarations;
+    }
+
+    public MelCompiledScript compile(String script, List<MelVariableDeclaration> variables) {
+        return cache.get(new Key(script, variables), () -> compileUncached(script, variables));
+    }
+
+    private MelCompiledScript compileUncached(String script, List<MelVariableDeclaration> variables) {
+        CelValidationResult result = parser.parse(script);
+        if (result.hasError()) {
+            return MelCompiledScript.failure(result.getErrorString());
+        }
+
+        CelAbstractSyntaxTree ast;
+        try {
+            ast = result.getAst();
+        } catch (CelValidationException e) {
+            return MelCompiledScript.failure(e.getMessage());
+        }
+
+        List<String> errors = checkItemPaths(ast, variables);
+        return errors.isEmpty() ? MelCompiledScript.success(ast) : new MelCompiledScript(ast, List.copyOf(errors));
+    }
+
+    /**
+     * Checks the longest select chains (e.g. {@code focus.activation.administrativeStatus}) only, shorter chains are
+     * their prefixes. Chains rooted in a comprehension or {@code cel.bind} variable are skipped, even if the variable
+     * shadows a declared one.
+     */
+    private List<String> checkItemPaths(CelAbstractSyntaxTree ast, List<MelVariableDeclaration> variables) {
+        List<String> errors = new ArrayList<>();
+        CelNavigableAst.fromAst(ast).getRoot().allNodes()
+                .filter(node -> node.getKind() == CelExpr.ExprKind.Kind.SELECT)
+                .filter(node -> node.parent()
+                        .map(parent -> parent.getKind() != CelExpr.ExprKind.Kind.SELECT)
+                        .orElse(true))
+                .forEach(node -> checkItemPath(node, variables, errors));
+        return errors;
+    }
+
+    private void checkItemPath(CelNavigableExpr node, List<MelVariableDeclaration> variables, List<String> errors) {
+        Deque<String> path = new ArrayDeque<>();
+        CelExpr current = node.expr();
+        while (current.getKind() == CelExpr.ExprKind.Kind.SELECT) {
+            path.push(current.select().field());
+            current = current.select().operand();
+        }
+        if (current.getKind() != CelExpr.ExprKind.Kind.IDENT) {
+            return;
+        }
+
+        String variableName = current.ident().name();
+        if (isComprehensionVariable(node, variableName)) {
+            return;
+        }
+        MelVariableDeclaration variable = variables.stream()
+                .filter(declaration -> declaration.name().equals(variableName))
+                .findFirst()
+                .orElse(null);
+        if (variable == null) {
+            return;
+        }
+
+        MelTypeDeclarations.TypeDeclaration type = typeDeclarations.forClass(variable.type());
+        String checkedPath = variableName;
+        while (type != null && !path.isEmpty()) {
+            String itemName = path.pop();
+            ItemDefinition<?> item = type.items().get(itemName);
+            if (item == null) {
+                errors.add("Unknown item '%s' of type %s in '%s.%s'.".formatted(itemName, type.typeName(), checkedPath, itemName));
+                return;
+            }
+            checkedPath = checkedPath + "." + itemName;
+            type = typeDeclarations.forItem(item);
+        }
+    }
+
+    /**
+     * Iteration and accumulator variables ({@code cel.bind} expands to a comprehension with the bound name as the
+     * accumulator) are in scope in the loop condition, loop step and result of their comprehension, not in its range
+     * or accumulator initializer.
+     */
+    private static boolean isComprehensionVariable(CelNavigableExpr node, String name) {
+        CelNavigableExpr child = node;
+        Optional<CelNavigableExpr> parent = node.parent();
+        while (parent.isPresent()) {
+            CelExpr expr = parent.get().expr();
+            if (expr.getKind() == CelExpr.ExprKind.Kind.COMPREHENSION) {
+                CelExpr.CelComprehension comprehension = expr.comprehension();
+                long childId = child.expr().id();
+                boolean inScope = childId != comprehension.iterRange().id()
+                        && childId != comprehension.accuInit().id();
+                if (inScope && (name.equals(comprehension.iterVar()) || name.equals(comprehension.accuVar()))) {
+                    return true;
+                }
+            }
+            child = parent.get();
+            parent = child.parent();
+        }
+        return false;
+    }
+
+    private record Key(String script, List<MelVariableDeclaration> variables) {
+    }
+}
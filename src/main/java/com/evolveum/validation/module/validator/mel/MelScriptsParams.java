@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Many MEL scripts (e.g. all mappings of a resource) with one set of variables shared by all of them.
+ */
+public record MelScriptsParams(
+        @NotNull(message = "Scripts are required.")
+        List<String> scripts,
+
+        @NotNull(message = "Variables are required.")
+        Map<String, @Valid @NotNull(message = "Variable definition is required.") MelVariable> variables) {
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.ComplexTypeDefinition;
+import com.evolveum.midpoint.prism.Containerable;
+import com.evolveum.midpoint.prism.ItemDefinition;
+import com.evolveum.midpoint.prism.PrismContainerDefinition;
+import com.evolveum.midpoint.prism.PrismContext;
+
+import javax.annotation.Nullable;
+import javax.xml.namespace.QName;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Declarations of items available in MEL variables of prism types (e.g. {@code focus.givenName} of {@code UserType}),
+ * derived from the prism schema.
+ *
+ * Declarations are built once per type and cached, the schema is not changed while the application runs.
+ */
+public class MelTypeDeclarations {
+
+    private final PrismContext prismContext;
+
+    private final Map<Class<?>, Optional<TypeDeclaration>> byClass = new ConcurrentHashMap<>();
+    private final Map<QName, TypeDeclaration> byTypeName = new ConcurrentHashMap<>();
+
+    public MelTypeDeclarations(PrismContext prismContext) {
+        this.prismContext = prismContext;
+    }
+
+    /**
+     * Declaration of the Java type of a variable, null if the type is not a prism container type.
+     */
+    @Nullable
+    public TypeDeclaration forClass(@Nullable Class<?> type) {
+        if (type == null || !Containerable.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        return byClass.computeIfAbsent(type, t -> {
+            Class<? extends Containerable> compileTimeClass = t.asSubclass(Containerable.class);
+            ComplexTypeDefinition definition = prismContext.getSchemaRegistry()
+                    .findComplexTypeDefinitionByCompileTimeClass(compileTimeClass);
+            return Optional.ofNullable(forComplexType(definition));
+        }).orElse(null);
+    }
+
+    /**
+     * Declaration of type of items of the {@code definition}. Null if the items are not containers, or if their
+     * content is not restricted by schema (e.g. extension), such items are not checked any further.
+     */
+    @Nullable
+    public TypeDeclaration forItem(ItemDefinition<?> definition) {
+        if (definition instanceof PrismContainerDefinition<?> containerDefinition) {
+            return forComplexType(containerDefinition.getComplexTypeDefinition());
+        }
+        return null;
+    }
+
+    @Nullable
+    private TypeDeclaration forComplexType(@Nullable ComplexTypeDefinition definition) {
+        if (definition == null || definition.isXsdAnyMarker()) {
+            return null;
+        }
+
+        return byTypeName.computeIfAbsent(definition.getTypeName(), typeName -> {
+            Map<String, ItemDefinition<?>> items = new HashMap<>();
+            for (ItemDefinition<?> item : definition.getDefinitions()) {
+                items.put(item.getItemName().getLocalPart(), item);
+            }
+            return new TypeDeclaration(typeName.getLocalPart(), Map.copyOf(items));
+        });
+    }
+
+    /**
+     * Items of a prism type by their local names.
+     */
+    public record TypeDeclaration(String typeName, Map<String, ItemDefinition<?>> items) {
+    }
+}
@@ -8,22 +8,30 @@
 package com.evolveum.validation.module.validator.mel;
 
 import com.evolveum.concepts.ValidationLog;
-import com.evolveum.midpoint.prism.util.JavaTypeConverter;
 import com.evolveum.validation.common.SupportedLanguage;
-import com.evolveum.validation.module.validator.CodeValidator;
+import com.evolveum.validation.config.ExecutorConfiguration;
 import com.evolveum.validation.module.validator.EvaluationResponse;
 import com.evolveum.validation.module.validator.ValidationResponse;
+import com.evolveum.validation.module.validator.mel.MelVariableTypeRegistry.MelVariableType;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 @RestController
 @RequestMapping(path = "/validate", consumes = "application/x-mel")
@@ -31,27 +39,55 @@ public class MelValidationController {
 
     private static final Logger LOG = LoggerFactory.getLogger(MelValidationController.class);
 
+    /**
+     * Optional request header with deadline of the evaluation in milliseconds. It is limited by
+     * {@code validation.mel.timeout.max}. Endpoints evaluating many scripts or values share one deadline for the whole
+     * request, entries not finished in time are returned as {@code DeadlineExceeded} errors.
+     */
+    public static final String TIMEOUT_HEADER = "X-Evaluation-Timeout";
+
     private final MelValidatorProviderImpl validatorProvider;
+    private final MelVariableTypeRegistry variableTypes;
+    private final MelFixtureRegistry fixtures;
+    private final ExecutorService validationExecutor;
+    private final int batchMaxEntries;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
 
-    public MelValidationController(MelValidatorProviderImpl validatorProvider) {
+    public MelValidationController(
+            MelValidatorProviderImpl validatorProvider,
+            MelVariableTypeRegistry variableTypes,
+            MelFixtureRegistry fixtures,
+            @Qualifier(ExecutorConfiguration.VALIDATION_EXECUTOR) ExecutorService validationExecutor,
+            @Value("${validation.batch.max-entries:500}") int batchMaxEntries,
+            @Value("${validation.mel.timeout.default:2s}") Duration defaultTimeout,
+            @Value("${validation.mel.timeout.max:10s}") Duration maxTimeout) {
         this.validatorProvider = validatorProvider;
+        this.variableTypes = variableTypes;
+        this.fixtures = fixtures;
+        this.validationExecutor = validationExecutor;
+        this.batchMaxEntries = batchMaxEntries;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
     }
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> validate(@RequestBody String script, @Valid MelValidationParams configuration) {
-        try {
-            CodeValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
+    public ResponseEntity<?> validate(@RequestBody String script, @Valid MelValidationParams configuration,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        MelVariableType varType = variableTypes.find(configuration.variableType()).orElse(null);
+        if (varType == null) {
+            return ResponseEntity.badRequest().body(unknownType(configuration.variableType()));
+        }
 
-            Class<?> varType = Class.forName(configuration.variableType());
-            Object testValue = configuration.testValue() != null
-                    ? JavaTypeConverter.convert(varType, configuration.testValue())
-                    : null;
+        try {
+            MelValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
 
             List<ValidationLog> logs = validator.validate(
                     script,
                     configuration.variableName(),
-                    varType,
-                    testValue
+                    varType.type(),
+                    testValue(varType, configuration.testValue(), configuration.fixture()),
+                    timeout(timeoutMillis)
             );
 
             return ResponseEntity.ok(new ValidationResponse(logs));
@@ -62,21 +98,45 @@ public class MelValidationController {
         }
     }
 
-    @PostMapping(path = "/evaluate", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<?> evaluate(@RequestBody String script, @Valid MelValidationParams configuration) {
+    /**
+     * Check the script against declaration of the variable without executing it. Test value is ignored.
+     */
+    @PostMapping(path = "/check", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> check(@RequestBody String script, @Valid MelValidationParams configuration) {
+        MelVariableType varType = variableTypes.find(configuration.variableType()).orElse(null);
+        if (varType == null) {
+            return ResponseEntity.badRequest().body(unknownType(configuration.variableType()));
+        }
+
         try {
-            CodeValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
+            List<ValidationLog> logs = validatorProvider.getValidator(SupportedLanguage.MEL)
+                    .check(script, configuration.variableName(), varType.type());
 
-            Class<?> varType = Class.forName(configuration.variableType());
-            Object testValue = configuration.testValue() != null
-                    ? JavaTypeConverter.convert(varType, configuration.testValue())
-                    : null;
+            return ResponseEntity.ok(new ValidationResponse(logs));
+        } catch (Exception e) {
+            LOG.error("Error during MEL check", e);
+            return ResponseEntity.internalServerError()
+                    .body("Error during MEL check: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    @PostMapping(path = "/evaluate", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> evaluate(@RequestBody String script, @Valid MelValidationParams configuration,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        MelVariableType varType = variableTypes.find(configuration.variableType()).orElse(null);
+        if (varType == null) {
+            return ResponseEntity.badRequest().body(unknownTypeError(configuration.variableType()));
+        }
+
+        try {
+            MelValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
 
             EvaluationResponse response = validator.evaluateWithResult(
                     script,
                     configuration.variableName(),
-                    varType,
-                    testValue
+                    varType.type(),
+                    testValue(varType, configuration.testValue(), configuration.fixture()),
+                    timeout(timeoutMillis)
             );
 
             return ResponseEntity.ok(response);
@@ -89,4 +149,280 @@ public class MelValidationController {
                     ));
         }
     }
+
+    /**
+     * Validate the script with several variables. Variables are given as JSON map of name to type and test value.
+     * Path differs from the x-mel variant, because JSON content of {@code /validate} is validated as midPoint object.
+     */
+    @PostMapping(path = "/mel", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> validateContext(@RequestBody @Valid MelContextParams params,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        String unknownType = findUnknownType(params.variables());
+        if (unknownType != null) {
+            return ResponseEntity.badRequest().body(unknownType(unknownType));
+        }
+
+        try {
+            List<ValidationLog> logs = validatorProvider.getValidator(SupportedLanguage.MEL)
+                    .validate(params.script(), variableValues(params.variables()), timeout(timeoutMillis));
+
+            return ResponseEntity.ok(new ValidationResponse(logs));
+        } catch (Exception e) {
+            LOG.error("Error during MEL validation", e);
+            return ResponseEntity.internalServerError()
+                    .body("Error during MEL validation: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check the script against declarations of several variables without executing it. Test values are ignored.
+     */
+    @PostMapping(path = "/check", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> checkContext(@RequestBody @Valid MelContextParams params) {
+        String unknownType = findUnknownType(params.variables());
+        if (unknownType != null) {
+            return ResponseEntity.badRequest().body(unknownType(unknownType));
+        }
+
+        try {
+            List<MelVariableDeclaration> declarations = params.variables().entrySet().stream()
+                    .map(entry -> new MelVariableDeclaration(entry.getKey(), resolveType(entry.getValue()).type()))
+                    .toList();
+            List<ValidationLog> logs = validatorProvider.getValidator(SupportedLanguage.MEL)
+                    .check(params.script(), declarations);
+
+            return ResponseEntity.ok(new ValidationResponse(logs));
+        } catch (Exception e) {
+            LOG.error("Error during MEL check", e);
+            return ResponseEntity.internalServerError()
+                    .body("Error during MEL check: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluate the script with several variables. Variables are given as JSON map of name to type and test value.
+     */
+    @PostMapping(path = "/evaluate", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> evaluateContext(@RequestBody @Valid MelContextParams params,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        String unknownType = findUnknownType(params.variables());
+        if (unknownType != null) {
+            return ResponseEntity.badRequest().body(unknownTypeError(unknownType));
+        }
+
+        try {
+            EvaluationResponse response = validatorProvider.getValidator(SupportedLanguage.MEL)
+                    .evaluateWithResult(params.script(), variableValues(params.variables()), timeout(timeoutMillis));
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            LOG.error("Error during MEL evaluation", e);
+            return ResponseEntity.internalServerError()
+                    .body(EvaluationResponse.error(
+                            "Error during MEL evaluation: " + e.getMessage(),
+                            e.getClass().getSimpleName()
+                    ));
+        }
+    }
+
+    /**
+     * Validate each of the scripts with the same variables. Variables are resolved once, scripts are validated
+     * in parallel and responses are returned in the same order as the scripts.
+     */
+    @PostMapping(path = "/mel/scripts", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> validateScripts(@RequestBody @Valid MelScriptsParams params,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        if (params.scripts().size() > batchMaxEntries) {
+            return ResponseEntity.badRequest().body(tooManyScripts(params.scripts().size()));
+        }
+
+        String unknownType = findUnknownType(params.variables());
+        if (unknownType != null) {
+            return ResponseEntity.badRequest().body(unknownType(unknownType));
+        }
+
+        try {
+            MelValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
+            MelVariableContext variables = MelVariableContext.of(variableValues(params.variables()));
+            Instant deadline = deadline(timeoutMillis);
+
+            List<CompletableFuture<ValidationResponse>> futures = params.scripts().stream()
+                    .map(script -> CompletableFuture.supplyAsync(
+                            () -> new ValidationResponse(validator.validate(script, variables, remaining(deadline))),
+                            validationExecutor))
+                    .toList();
+
+            return ResponseEntity.ok(futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList());
+        } catch (Exception e) {
+            LOG.error("Error during MEL scripts validation", e);
+            return ResponseEntity.internalServerError()
+                    .body("Error during MEL validation: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluate each of the scripts with the same variables. Variables are resolved once, scripts are evaluated
+     * in parallel and responses are returned in the same order as the scripts.
+     */
+    @PostMapping(path = "/evaluate/scripts", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> evaluateScripts(@RequestBody @Valid MelScriptsParams params,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        if (params.scripts().size() > batchMaxEntries) {
+            return ResponseEntity.badRequest()
+                    .body(EvaluationResponse.error(
+                            tooManyScripts(params.scripts().size()),
+                            IllegalArgumentException.class.getSimpleName()
+                    ));
+        }
+
+        String unknownType = findUnknownType(params.variables());
+        if (unknownType != null) {
+            return ResponseEntity.badRequest().body(unknownTypeError(unknownType));
+        }
+
+        try {
+            MelValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
+            MelVariableContext variables = MelVariableContext.of(variableValues(params.variables()));
+            Instant deadline = deadline(timeoutMillis);
+
+            List<CompletableFuture<EvaluationResponse>> futures = params.scripts().stream()
+                    .map(script -> CompletableFuture.supplyAsync(
+                            () -> validator.evaluateWithResult(script, variables, remaining(deadline)),
+                            validationExecutor))
+                    .toList();
+
+            return ResponseEntity.ok(futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList());
+        } catch (Exception e) {
+            LOG.error("Error during MEL scripts evaluation", e);
+            return ResponseEntity.internalServerError()
+                    .body(EvaluationResponse.error(
+                            "Error during MEL evaluation: " + e.getMessage(),
+                            e.getClass().getSimpleName()
+                    ));
+        }
+    }
+
+    /**
+     * Evaluate one script with each of the test values. Script is compiled once, values are evaluated in parallel and
+     * responses are returned in the same order as the values.
+     */
+    @PostMapping(path = "/evaluate/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> evaluateBatch(@RequestBody @Valid MelBatchEvaluationParams params,
+            @RequestHeader(name = TIMEOUT_HEADER, required = false) Long timeoutMillis) {
+        if (params.testValues().size() > batchMaxEntries) {
+            return ResponseEntity.badRequest()
+                    .body(EvaluationResponse.error(
+                            "Batch contains %d test values, maximum is %d.".formatted(params.testValues().size(), batchMaxEntries),
+                            IllegalArgumentException.class.getSimpleName()
+                    ));
+        }
+
+        MelVariableType varType = variableTypes.find(params.variableType()).orElse(null);
+        if (varType == null) {
+            return ResponseEntity.badRequest().body(unknownTypeError(params.variableType()));
+        }
+
+        try {
+            MelValidator validator = validatorProvider.getValidator(SupportedLanguage.MEL);
+            Instant deadline = deadline(timeoutMillis);
+
+            List<CompletableFuture<EvaluationResponse>> futures = params.testValues().stream()
+                    .map(value -> CompletableFuture.supplyAsync(
+                            () -> evaluateValue(validator, params.script(), params.variableName(), varType, value,
+                                    remaining(deadline)),
+                            validationExecutor))
+                    .toList();
+
+            return ResponseEntity.ok(futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList());
+        } catch (Exception e) {
+            LOG.error("Error during MEL batch evaluation", e);
+            return ResponseEntity.internalServerError()
+                    .body(EvaluationResponse.error(
+                            "Error during MEL evaluation: " + e.getMessage(),
+                            e.getClass().getSimpleName()
+                    ));
+        }
+    }
+
+    private EvaluationResponse evaluateValue(MelValidator validator, String script, String variableName,
+            MelVariableType varType, String value, Duration timeout) {
+        try {
+            return validator.evaluateWithResult(script, variableName, varType.type(), varType.convert(value), timeout);
+        } catch (Exception e) {
+            return EvaluationResponse.error(e.getMessage(), e.getClass().getSimpleName());
+        }
+    }
+
+    private String findUnknownType(Map<String, MelVariable> variables) {
+        return variables.values().stream()
+                .map(MelVariable::type)
+                .filter(type -> variableTypes.find(type).isEmpty())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private MelVariableType resolveType(MelVariable variable) {
+        return variableTypes.find(variable.type()).orElseThrow();
+    }
+
+    private List<MelVariableValue> variableValues(Map<String, MelVariable> variables) {
+        return variables.entrySet().stream()
+                .map(entry -> {
+                    MelVariableType type = resolveType(entry.getValue());
+                    Object value = testValue(type, entry.getValue().value(), entry.getValue().fixture());
+                    return new MelVariableValue(entry.getKey(), type.type(), value);
+                })
+                .toList();
+    }
+
+    private Object testValue(MelVariableType type, String value, String fixtureName) {
+        if (fixtureName == null) {
+            return type.convert(value);
+        }
+
+        Object fixture = fixtures.find(fixtureName)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown fixture: " + fixtureName));
+        if (!type.type().isInstance(fixture)) {
+            throw new IllegalArgumentException("Fixture %s is %s, not %s.".formatted(
+                    fixtureName, fixture.getClass().getName(), type.type().getName()));
+        }
+        return fixture;
+    }
+
+    private Duration timeout(Long timeoutMillis) {
+        if (timeoutMillis == null || timeoutMillis <= 0) {
+            return defaultTimeout;
+        }
+        Duration requested = Duration.ofMillis(timeoutMillis);
+        return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+    }
+
+    private Instant deadline(Long timeoutMillis) {
+        return Instant.now().plus(timeout(timeoutMillis));
+    }
+
+    /**
+     * Time left until the request deadline, entries started after the deadline are not evaluated at all.
+     */
+    private static Duration remaining(Instant deadline) {
+        return Duration.between(Instant.now(), deadline);
+    }
+
+    private String tooManyScripts(int count) {
+        return "Request contains %d scripts, maximum is %d.".formatted(count, batchMaxEntries);
+    }
+
+    private static String unknownType(String variableType) {
+        return "Unknown or not allowed variable type: " + variableType;
+    }
+
+    private static EvaluationResponse unknownTypeError(String variableType) {
+        return EvaluationResponse.error(unknownType(variableType), IllegalArgumentException.class.getSimpleName());
+    }
 }
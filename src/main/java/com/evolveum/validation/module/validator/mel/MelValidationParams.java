@@ -9,6 +9,10 @@ package com.evolveum.validation.module.validator.mel;
 
 import jakarta.validation.constraints.NotNull;
 
+/**
+ * Variable of MEL script. The test value is either {@code testValue} converted to the variable type, or the object
+ * registered as {@code fixture} (see {@link MelFixtureRegistry}).
+ */
 public record MelValidationParams(
         @NotNull(message = "Variable name is required.")
         String variableName,
@@ -16,6 +20,8 @@ public record MelValidationParams(
         @NotNull(message = "Variable type is required.")
         String variableType,
 
-        String testValue) {
+        String testValue,
+
+        String fixture) {
 
 }
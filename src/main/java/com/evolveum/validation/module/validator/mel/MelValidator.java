@@ -10,6 +10,7 @@ package com.evolveum.validation.module.validator.mel;
 import com.evolveum.validation.module.validator.CodeValidator;
 import com.evolveum.validation.module.validator.EvaluationResponse;
 import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.config.CacheConfiguration;
 
 import com.evolveum.concepts.SourceLocation;
 import com.evolveum.concepts.TechnicalMessage;
@@ -32,18 +33,64 @@ import com.evolveum.midpoint.schema.result.OperationResult;
 import com.evolveum.midpoint.xml.ns._public.common.common_3.ScriptExpressionEvaluatorType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.NoOpCache;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MelValidator implements CodeValidator {
 
     private static final Logger LOG = LoggerFactory.getLogger(MelValidator.class);
 
+    private static final String COMPILATION_ERROR_TYPE = "MelCompilationError";
+    public static final String DEADLINE_EXCEEDED_TYPE = "DeadlineExceeded";
+    private static final String COST_LIMIT_EXCEEDED_TYPE = "CostLimitExceeded";
+
     private final MelScriptEvaluator melScriptEvaluator;
+    private final MelScriptCompiler scriptCompiler;
+    private final MelCostEstimator costEstimator;
+
+    /**
+     * Executor running the evaluations, so the caller can stop waiting when the deadline passes. If null, scripts are
+     * evaluated in the calling thread without any deadline.
+     */
+    @Nullable private final ExecutorService evaluationExecutor;
+    private final Duration defaultTimeout;
+
+    /**
+     * CEL evaluation can not be interrupted, evaluation abandoned after its deadline keeps its executor thread until
+     * it ends. When this many abandoned evaluations are still running, new evaluations are refused, so the runaway
+     * scripts can not take all threads of the executor.
+     */
+    private final int maxAbandonedEvaluations;
+    private final AtomicInteger abandonedEvaluations = new AtomicInteger();
 
     public MelValidator(PrismContext prismContext, Protector protector, LocalizationService localizationService) {
+        this(prismContext, protector, localizationService, new MelScriptCompiler(
+                new NoOpCache(CacheConfiguration.MEL_SCRIPTS), new MelTypeDeclarations(prismContext)),
+                new MelCostEstimator(Long.MAX_VALUE), null, Duration.ZERO, 0);
+    }
+
+    public MelValidator(PrismContext prismContext, Protector protector, LocalizationService localizationService,
+            MelScriptCompiler scriptCompiler, MelCostEstimator costEstimator, @Nullable ExecutorService evaluationExecutor,
+            Duration defaultTimeout, int maxAbandonedEvaluations) {
+        this.scriptCompiler = scriptCompiler;
+        this.costEstimator = costEstimator;
+        this.evaluationExecutor = evaluationExecutor;
+        this.defaultTimeout = defaultTimeout;
+        this.maxAbandonedEvaluations = maxAbandonedEvaluations;
+
         FunctionLibraryBinding basicFunctionLibraryBinding =
                 FunctionLibraryUtil.createBasicFunctionLibraryBinding(prismContext, protector, new Clock());
 
@@ -65,31 +112,67 @@ public class MelValidator implements CodeValidator {
         throw new UnsupportedOperationException("This version of validate method is not supported");
     }
 
+    /**
+     * Checks the script without executing it. Syntax and item paths of variables of prism types are checked.
+     */
+    public List<ValidationLog> check(String script, String variableName, Class<?> variableType) {
+        return check(script, variableName != null
+                ? List.of(new MelVariableDeclaration(variableName, variableType))
+                : List.of());
+    }
+
+    public List<ValidationLog> check(String script, List<MelVariableDeclaration> variables) {
+        return toLogs(compile(script, variables));
+    }
+
     @Override
     public List<ValidationLog> validate(String script, String variableName, Class<?> variableType, Object testValue) {
+        return validate(script, variableName, variableType, testValue, defaultTimeout);
+    }
 
-        boolean hasTestData = variableName != null;
+    /**
+     * Same as {@link #validate(String, String, Class, Object)}, but the evaluation is abandoned after the
+     * {@code timeout}.
+     */
+    public List<ValidationLog> validate(String script, String variableName, Class<?> variableType, Object testValue,
+            Duration timeout) {
+        return validate(script, variables(variableName, variableType, testValue), timeout);
+    }
+
+    /**
+     * Validate script with any number of variables. The evaluation is abandoned after the {@code timeout}.
+     */
+    public List<ValidationLog> validate(String script, List<MelVariableValue> variables, Duration timeout) {
+        return validate(script, MelVariableContext.of(variables), timeout);
+    }
+
+    /**
+     * Validate script with prepared variables, the same context can be used for validation of many scripts.
+     */
+    public List<ValidationLog> validate(String script, MelVariableContext variables, Duration timeout) {
+
+        boolean hasTestData = !variables.isEmpty();
         String contextDescription = hasTestData ? "MEL validation with test data" : "MEL syntax validation";
         String operationName = hasTestData ? "mel-validation-with-test-data" : "mel-validation";
 
-        try {
-            var scriptBean = new ScriptExpressionEvaluatorType();
-            scriptBean.setCode(script);
-            scriptBean.setLanguage(MelScriptEvaluator.LANGUAGE_URL);
-
-            VariablesMap variables = new VariablesMap();
-            if (hasTestData) {
-                variables.put(variableName, new TypedValue<>(testValue, variableType));
-            }
+        MelCompiledScript compiledScript = scriptCompiler.compile(script, variables.declarations());
+        if (!compiledScript.isValid()) {
+            return toLogs(compiledScript);
+        }
 
-            ScriptExpressionEvaluationContext context = new ScriptExpressionEvaluationContext();
-            context.setScriptBean(scriptBean);
-            context.setVariables(variables);
-            context.setContextDescription(contextDescription);
-            context.setResult(new OperationResult(operationName));
-            context.setEvaluateNew(false);
+        MelCostEstimate estimate = costEstimator.estimate(compiledScript.ast(), variables);
+        if (!costEstimator.isAllowed(estimate)) {
+            return List.of(new ValidationLog(
+                    ValidationLogType.ERROR,
+                    ValidationLogType.Specification.UNKNOW,
+                    SourceLocation.unknown(),
+                    new TechnicalMessage(""),
+                    costLimitExceeded(estimate)
+            ));
+        }
 
-            melScriptEvaluator.evaluate(context);
+        try {
+            evaluate(createContext(script, variables, contextDescription, operationName), timeout);
 
             return Collections.emptyList();
         } catch (Exception e) {
@@ -106,39 +189,168 @@ public class MelValidator implements CodeValidator {
 
     @Override
     public EvaluationResponse evaluateWithResult(String script, String variableName, Class<?> variableType, Object testValue) {
+        return evaluateWithResult(script, variableName, variableType, testValue, defaultTimeout);
+    }
+
+    /**
+     * Same as {@link #evaluateWithResult(String, String, Class, Object)}, but the evaluation is abandoned after the
+     * {@code timeout} and {@code DeadlineExceeded} error is returned.
+     */
+    public EvaluationResponse evaluateWithResult(String script, String variableName, Class<?> variableType,
+            Object testValue, Duration timeout) {
+        return evaluateWithResult(script, variables(variableName, variableType, testValue), timeout);
+    }
 
-        boolean hasTestData = variableName != null;
+    /**
+     * Evaluate script with any number of variables. The evaluation is abandoned after the {@code timeout} and
+     * {@code DeadlineExceeded} error is returned.
+     */
+    public EvaluationResponse evaluateWithResult(String script, List<MelVariableValue> variables, Duration timeout) {
+        return evaluateWithResult(script, MelVariableContext.of(variables), timeout);
+    }
+
+    /**
+     * Evaluate script with prepared variables, the same context can be used for evaluation of many scripts.
+     */
+    public EvaluationResponse evaluateWithResult(String script, MelVariableContext variables, Duration timeout) {
+
+        boolean hasTestData = !variables.isEmpty();
         String contextDescription = hasTestData ? "MEL evaluation with test data" : "MEL syntax evaluation";
         String operationName = hasTestData ? "mel-evaluation-with-test-data" : "mel-evaluation";
 
-        try {
-            var scriptBean = new ScriptExpressionEvaluatorType();
-            scriptBean.setCode(script);
-            scriptBean.setLanguage(MelScriptEvaluator.LANGUAGE_URL);
-
-            VariablesMap variables = new VariablesMap();
-            if (hasTestData) {
-                variables.put(variableName, new TypedValue<>(testValue, variableType));
-            }
+        MelCompiledScript compiledScript = scriptCompiler.compile(script, variables.declarations());
+        if (!compiledScript.isValid()) {
+            return EvaluationResponse.error(String.join("\n", compiledScript.errors()), COMPILATION_ERROR_TYPE);
+        }
 
-            ScriptExpressionEvaluationContext context = new ScriptExpressionEvaluationContext();
-            context.setScriptBean(scriptBean);
-            context.setVariables(variables);
-            context.setContextDescription(contextDescription);
-            context.setResult(new OperationResult(operationName));
-            context.setEvaluateNew(false);
+        MelCostEstimate estimate = costEstimator.estimate(compiledScript.ast(), variables);
+        if (!costEstimator.isAllowed(estimate)) {
+            return EvaluationResponse.error(costLimitExceeded(estimate), COST_LIMIT_EXCEEDED_TYPE)
+                    .withEstimatedCost(estimate.cost());
+        }
 
-            Object result = melScriptEvaluator.evaluate(context);
+        try {
+            Object result = evaluate(createContext(script, variables, contextDescription, operationName), timeout);
 
             Object unwrappedValue = unwrapPrismValue(result);
 
-            return EvaluationResponse.success(unwrappedValue);
+            return EvaluationResponse.success(unwrappedValue).withEstimatedCost(estimate.cost());
+        } catch (TimeoutException e) {
+            LOG.warn("MEL evaluation deadline exceeded: {}", contextDescription);
+            return EvaluationResponse.error(e.getMessage(), DEADLINE_EXCEEDED_TYPE).withEstimatedCost(estimate.cost());
         } catch (Exception e) {
             LOG.error("MEL evaluation error: {}", contextDescription, e);
-            return EvaluationResponse.error(e.getMessage(), e.getClass().getSimpleName());
+            return EvaluationResponse.error(e.getMessage(), e.getClass().getSimpleName())
+                    .withEstimatedCost(estimate.cost());
+        }
+    }
+
+    private ScriptExpressionEvaluationContext createContext(String script, MelVariableContext variableContext,
+            String contextDescription, String operationName) {
+        var scriptBean = new ScriptExpressionEvaluatorType();
+        scriptBean.setCode(script);
+        scriptBean.setLanguage(MelScriptEvaluator.LANGUAGE_URL);
+
+        VariablesMap variables = new VariablesMap();
+        for (MelVariableValue variable : variableContext.values()) {
+            variables.put(variable.name(), new TypedValue<>(variable.value(), variable.type()));
+        }
+
+        ScriptExpressionEvaluationContext context = new ScriptExpressionEvaluationContext();
+        context.setScriptBean(scriptBean);
+        context.setVariables(variables);
+        context.setContextDescription(contextDescription);
+        context.setResult(new OperationResult(operationName));
+        context.setEvaluateNew(false);
+        return context;
+    }
+
+    /**
+     * Evaluate the script on the evaluation executor and wait at most {@code timeout} for the result. Timeout that is
+     * not positive means the deadline has already passed and the script is not evaluated at all.
+     */
+    private Object evaluate(ScriptExpressionEvaluationContext context, Duration timeout) throws Exception {
+        if (evaluationExecutor == null) {
+            return melScriptEvaluator.evaluate(context);
+        }
+        if (!timeout.isPositive()) {
+            throw new TimeoutException("MEL evaluation deadline passed before the evaluation started.");
+        }
+        if (abandonedEvaluations.get() >= maxAbandonedEvaluations) {
+            throw new RejectedExecutionException("%d MEL evaluations exceeded their deadline and are still running, "
+                    .formatted(abandonedEvaluations.get()) + "new evaluations are refused until they end.");
+        }
+
+        AtomicReference<EvaluationState> state = new AtomicReference<>(EvaluationState.QUEUED);
+        Future<Object> future = evaluationExecutor.submit(() -> {
+            if (!state.compareAndSet(EvaluationState.QUEUED, EvaluationState.RUNNING)) {
+                return null;
+            }
+            try {
+                return melScriptEvaluator.evaluate(context);
+            } finally {
+                if (!state.compareAndSet(EvaluationState.RUNNING, EvaluationState.FINISHED)) {
+                    abandonedEvaluations.decrementAndGet();
+                }
+            }
+        });
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // CEL evaluation does not check interruption, running evaluation keeps its thread until it ends
+            if (state.compareAndSet(EvaluationState.RUNNING, EvaluationState.ABANDONED)) {
+                abandonedEvaluations.incrementAndGet();
+            } else {
+                state.compareAndSet(EvaluationState.QUEUED, EvaluationState.ABANDONED);
+            }
+            future.cancel(true);
+            throw new TimeoutException("MEL evaluation did not finish within " + timeout.toMillis() + " ms.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
+    /**
+     * Number of evaluations which exceeded their deadline and still occupy a thread of the evaluation executor.
+     */
+    public int getAbandonedEvaluations() {
+        return abandonedEvaluations.get();
+    }
+
+    private enum EvaluationState {
+        QUEUED, RUNNING, FINISHED, ABANDONED
+    }
+
+    private MelCompiledScript compile(String script, List<MelVariableDeclaration> variables) {
+        return scriptCompiler.compile(script, MelVariableContext.sorted(variables));
+    }
+
+    private static List<MelVariableValue> variables(String variableName, Class<?> variableType, Object testValue) {
+        return variableName != null
+                ? List.of(new MelVariableValue(variableName, variableType, testValue))
+                : List.of();
+    }
+
+    private String costLimitExceeded(MelCostEstimate estimate) {
+        return "Estimated cost of MEL evaluation %d exceeds the limit %d (depth %d, %d comprehensions)."
+                .formatted(estimate.cost(), costEstimator.getMaxCost(), estimate.depth(), estimate.comprehensions());
+    }
+
+    private List<ValidationLog> toLogs(MelCompiledScript compiledScript) {
+        return compiledScript.errors().stream()
+                .map(error -> new ValidationLog(
+                        ValidationLogType.ERROR,
+                        ValidationLogType.Specification.UNKNOW,
+                        SourceLocation.unknown(),
+                        new TechnicalMessage(""),
+                        error
+                ))
+                .toList();
+    }
+
     private Object unwrapPrismValue(Object value) {
         if (value == null) {
             return null;
@@ -11,32 +11,63 @@ import com.evolveum.midpoint.common.LocalizationService;
 import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.midpoint.prism.crypto.Protector;
 import com.evolveum.validation.common.SupportedLanguage;
-import com.evolveum.validation.module.validator.CodeValidator;
+import com.evolveum.validation.config.CacheConfiguration;
+import com.evolveum.validation.config.ExecutorConfiguration;
 import com.evolveum.validation.module.validator.ValidatorProvider;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Component
 public class MelValidatorProviderImpl implements ValidatorProvider<SupportedLanguage> {
 
-    private final PrismContext prismContext;
-    private final Protector protector;
-    private final LocalizationService localizationService;
+    /**
+     * Validator is created only once, at startup. Building of the function library binding and
+     * {@link com.evolveum.midpoint.model.common.expression.script.mel.MelScriptEvaluator} is expensive, and the
+     * evaluator is thread-safe (midPoint also uses one instance for all expression evaluations), so the same validator
+     * serves all requests.
+     */
+    private final MelValidator validator;
 
     @Autowired
     public MelValidatorProviderImpl(
             PrismContext prismContext,
             Protector protector,
-            @Nullable LocalizationService localizationService) {
-        this.prismContext = prismContext;
-        this.protector = protector;
-        this.localizationService = localizationService;
+            @Nullable LocalizationService localizationService,
+            CacheManager cacheManager,
+            @Qualifier(ExecutorConfiguration.MEL_EVALUATION_EXECUTOR) ExecutorService evaluationExecutor,
+            @Value("${validation.mel.timeout.default:2s}") Duration defaultTimeout,
+            @Value("${validation.mel.max-cost:100000}") long maxCost,
+            @Value("${validation.mel.executor.max-abandoned:0}") int maxAbandonedEvaluations) {
+        MelScriptCompiler scriptCompiler = new MelScriptCompiler(
+                Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.MEL_SCRIPTS)),
+                new MelTypeDeclarations(prismContext));
+        this.validator = new MelValidator(prismContext, protector, localizationService, scriptCompiler,
+                new MelCostEstimator(maxCost), evaluationExecutor, defaultTimeout,
+                maxAbandonedEvaluations > 0 ? maxAbandonedEvaluations : defaultMaxAbandoned(evaluationExecutor));
+    }
+
+    /**
+     * By default, runaway scripts may hold at most half of the evaluation threads.
+     */
+    private static int defaultMaxAbandoned(ExecutorService evaluationExecutor) {
+        int poolSize = evaluationExecutor instanceof ThreadPoolExecutor pool
+                ? pool.getMaximumPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, poolSize / 2);
     }
 
     @Override
-    public CodeValidator getValidator(SupportedLanguage language) {
-        return new MelValidator(prismContext, protector, localizationService);
+    public MelValidator getValidator(SupportedLanguage language) {
+        return validator;
     }
 }
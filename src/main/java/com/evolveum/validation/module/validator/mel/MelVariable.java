@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Variable of MEL script as sent by the client. Type is resolved by {@link MelVariableTypeRegistry}. The test value is
+ * either the {@code value} converted to the type, or the object registered as {@code fixture}.
+ */
+public record MelVariable(
+        @NotNull(message = "Variable type is required.")
+        String type,
+
+        String value,
+
+        String fixture) {
+
+}
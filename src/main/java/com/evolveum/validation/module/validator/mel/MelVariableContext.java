@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Variables of MEL scripts, prepared once for evaluation of one or more scripts.
+ *
+ * @param declarations declarations of the variables sorted by name, so the same variables compile to the same cache
+ * entry regardless of the order in which they were sent
+ * @param values variables with their test values
+ */
+public record MelVariableContext(List<MelVariableDeclaration> declarations, List<MelVariableValue> values) {
+
+    public static MelVariableContext of(List<MelVariableValue> values) {
+        return new MelVariableContext(sorted(values.stream().map(MelVariableValue::declaration).toList()),
+                List.copyOf(values));
+    }
+
+    static List<MelVariableDeclaration> sorted(List<MelVariableDeclaration> declarations) {
+        return declarations.stream()
+                .sorted(Comparator.comparing(MelVariableDeclaration::name))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+}
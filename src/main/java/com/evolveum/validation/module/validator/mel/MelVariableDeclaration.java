@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+/**
+ * Variable available to MEL script, i.e. its name and type.
+ */
+public record MelVariableDeclaration(String name, Class<?> type) {
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import com.evolveum.midpoint.prism.polystring.PolyString;
+import com.evolveum.midpoint.prism.util.JavaTypeConverter;
+import com.evolveum.midpoint.prism.xml.XmlTypeConverter;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.AssignmentType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.FocusType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.OrgType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.RoleType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.ServiceType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.ShadowType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.UserType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Types allowed for variables of MEL scripts, with converters of test values.
+ *
+ * Types are resolved once, at startup, so request handling is a map lookup only and clients can not load arbitrary
+ * classes. Types can be referenced by alias (e.g. {@code string}, {@code polystring}) or by fully qualified class
+ * name. More classes can be allowed by {@code validation.mel.variable-types} property.
+ */
+@Component
+public class MelVariableTypeRegistry {
+
+    private static final List<Class<?>> DEFAULT_TYPES = List.of(
+            String.class, Integer.class, Long.class, Boolean.class, Double.class, PolyString.class,
+            XMLGregorianCalendar.class, UserType.class, RoleType.class, OrgType.class, ServiceType.class,
+            FocusType.class, ShadowType.class, AssignmentType.class);
+
+    private final Map<String, MelVariableType> types = new HashMap<>();
+
+    public MelVariableTypeRegistry(@Value("${validation.mel.variable-types:}") List<String> additionalTypes) {
+        register(String.class, value -> value, "string");
+        register(Integer.class, Integer::valueOf, "int", "integer");
+        register(Long.class, Long::valueOf, "long");
+        register(Boolean.class, Boolean::valueOf, "boolean");
+        register(Double.class, Double::valueOf, "double");
+        register(PolyString.class, PolyString::fromOrig, "polystring");
+        register(XMLGregorianCalendar.class, XmlTypeConverter::createXMLGregorianCalendar, "datetime");
+
+        DEFAULT_TYPES.forEach(type -> types.computeIfAbsent(type.getName(), name -> convertedBy(type)));
+        for (String className : additionalTypes) {
+            try {
+                Class<?> type = Class.forName(className.trim());
+                types.computeIfAbsent(type.getName(), name -> convertedBy(type));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unknown MEL variable type in configuration: " + className, e);
+            }
+        }
+    }
+
+    public Optional<MelVariableType> find(String name) {
+        return Optional.ofNullable(types.get(name));
+    }
+
+    private void register(Class<?> type, Function<String, Object> converter, String... aliases) {
+        MelVariableType variableType = new MelVariableType(type, converter);
+        types.put(type.getName(), variableType);
+        for (String alias : aliases) {
+            types.put(alias, variableType);
+        }
+    }
+
+    /**
+     * Values of abstract types (e.g. {@code FocusType}) can not be created from a string, such variables can be given
+     * only as fixtures of a concrete subtype.
+     */
+    private static MelVariableType convertedBy(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return new MelVariableType(type, value -> {
+                throw new IllegalArgumentException(
+                        "Type %s is abstract, its test value can be given only as a fixture.".formatted(type.getName()));
+            });
+        }
+        return new MelVariableType(type, value -> JavaTypeConverter.convert(type, value));
+    }
+
+    /**
+     * Resolved type of a variable and converter of test values (given as strings) to this type.
+     */
+    public record MelVariableType(Class<?> type, Function<String, Object> converter) {
+
+        public Object convert(String value) {
+            return value != null ? converter.apply(value) : null;
+        }
+    }
+}
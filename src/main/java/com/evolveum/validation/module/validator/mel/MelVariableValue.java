@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.mel;
+
+import javax.annotation.Nullable;
+
+/**
+ * Variable available to MEL script during validation or evaluation, with its test value.
+ */
+public record MelVariableValue(String name, Class<?> type, @Nullable Object value) {
+
+    public MelVariableDeclaration declaration() {
+        return new MelVariableDeclaration(name, type);
+    }
+}
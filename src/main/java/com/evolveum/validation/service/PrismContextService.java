@@ -11,7 +11,6 @@ package com.evolveum.validation.service;
 import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.midpoint.schema.MidPointPrismContextFactory;
 import com.evolveum.midpoint.util.exception.SchemaException;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.xml.sax.SAXException;
 
@@ -23,12 +22,26 @@ import java.io.IOException;
 @Service
 public class PrismContextService {
 
-    @Cacheable("prismContext")
+    private volatile PrismContext prismContext;
+
+    /**
+     * Returns initialized prism context. The context is created and initialized only once, on the first call,
+     * subsequent calls return the same instance.
+     */
     public PrismContext getPrismContext() throws SchemaException, IOException, SAXException {
-        MidPointPrismContextFactory factory = new MidPointPrismContextFactory();
-        PrismContext prismContext = factory.createPrismContext();
-        prismContext.initialize();
+        PrismContext context = prismContext;
+        if (context == null) {
+            synchronized (this) {
+                context = prismContext;
+                if (context == null) {
+                    MidPointPrismContextFactory factory = new MidPointPrismContextFactory();
+                    context = factory.createPrismContext();
+                    context.initialize();
+                    prismContext = context;
+                }
+            }
+        }
 
-        return prismContext;
+        return context;
     }
 }
@@ -8,11 +8,17 @@
 
 package com.evolveum.validation.convertor;
 
+import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.validation.module.converter.Converter;
+import com.evolveum.validation.module.converter.ConverterController;
+import com.evolveum.validation.module.converter.ConverterParams;
 import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.service.PrismContextService;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -20,18 +26,27 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Created by Dominik.
  */
 public class ConvertorTest {
 
+    private PrismContext prismContext;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        this.prismContext = new PrismContextService().getPrismContext();
+    }
+
     @Test()
     public void testXmlToJson() throws JSONException {
 
-        Converter convertor = new Converter("json");
+        Converter convertor = new Converter(prismContext, "json");
         String xml = """
                 <attribute>
                     <ref>givenName</ref>
@@ -53,7 +68,7 @@ public class ConvertorTest {
 
     @Test()
     public void testXmlToYaml() {
-        Converter convertor = new Converter("yaml");
+        Converter convertor = new Converter(prismContext, "yaml");
         String xml = """
                 <attribute>
                     <ref>givenName</ref>
@@ -74,7 +89,7 @@ public class ConvertorTest {
 
     @Test()
     public void testJsonToXml() throws ParserConfigurationException, IOException, SAXException {
-        Converter convertor = new Converter("xml");
+        Converter convertor = new Converter(prismContext, "xml");
         String json = """
                 {
                   "attribute": {
@@ -102,4 +117,33 @@ public class ConvertorTest {
         Assert.assertNotNull(xmlObj);
     }
 
-}
\ No newline at end of file
+    @Test()
+    public void testXmlStreamToJson() throws Exception {
+        ConverterController controller = new ConverterController(prismContext);
+        String xml = """
+                <attribute>
+                    <ref>givenName</ref>
+                </attribute>
+                """;
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.convert(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+                new ConverterParams("json"), SupportedLanguage.XML, response);
+
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertTrue(response.getContentType().startsWith("application/json"));
+        new JSONObject(response.getContentAsString());
+    }
+
+    @Test()
+    public void testInvalidStreamConversion() throws Exception {
+        ConverterController controller = new ConverterController(prismContext);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.convert(new ByteArrayInputStream("<attribute>".getBytes(StandardCharsets.UTF_8)),
+                new ConverterParams("json"), SupportedLanguage.XML, response);
+
+        Assert.assertEquals(response.getStatus(), 500);
+        Assert.assertTrue(response.getContentType().startsWith("text/plain"));
+    }
+}
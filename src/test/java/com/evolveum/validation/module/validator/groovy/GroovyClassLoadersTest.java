@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.groovy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.testng.annotations.Test;
+
+public class GroovyClassLoadersTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void concurrentAcquireAndRelease_shouldKeepOneLiveLoader() throws Exception {
+        final int maxCompilations = 5;
+        final int compilations = 2000;
+        final GroovyClassLoaders classLoaders = new GroovyClassLoaders(
+                getClass().getClassLoader(), new CompilerConfiguration(), maxCompilations);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < compilations; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final GroovyClassLoaders.Generation generation = classLoaders.acquire();
+                    try {
+                        assertThat(generation.loader()).isNotNull();
+                    } finally {
+                        classLoaders.release(generation);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(classLoaders.liveLoaderCount()).isEqualTo(1);
+        assertThat(classLoaders.recycledCount()).isPositive().isLessThanOrEqualTo(compilations / maxCompilations);
+    }
+
+    @Test
+    void loaderInUse_retired_shouldStayLiveUntilReleased() {
+        final GroovyClassLoaders classLoaders = new GroovyClassLoaders(
+                getClass().getClassLoader(), new CompilerConfiguration(), 2);
+
+        final GroovyClassLoaders.Generation first = classLoaders.acquire();
+        final GroovyClassLoaders.Generation second = classLoaders.acquire();
+        assertThat(second).isSameAs(first);
+        assertThat(classLoaders.liveLoaderCount()).isEqualTo(2);
+
+        classLoaders.release(first);
+        assertThat(classLoaders.liveLoaderCount()).isEqualTo(2);
+        classLoaders.release(second);
+        assertThat(classLoaders.liveLoaderCount()).isEqualTo(1);
+
+        final GroovyClassLoaders.Generation next = classLoaders.acquire();
+        assertThat(next).isNotSameAs(first);
+        classLoaders.release(next);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.groovy;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.evolveum.validation.validator.groovy.TestingBaseScript;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * The test is in the package of the controller, because the validator provider is package-private.
+ */
+public class GroovyValidationControllerTest {
+
+    private static final MediaType GROOVY = MediaType.parseMediaType("text/x-groovy");
+
+    private MockMvc mockMvc;
+
+    @BeforeClass
+    public void setup() {
+        final GroovyValidationController controller = new GroovyValidationController(
+                new GroovyValidatorProviderImpl(new SimpleMeterRegistry(), 10),
+                new ConcurrentMapCacheManager());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void validScript_validate_shouldPass() throws Exception {
+        mockMvc.perform(post("/validate")
+                        .contentType(GROOVY)
+                        .param("scriptBaseClass", TestingBaseScript.class.getName())
+                        .content("""
+                                String name = 'jack'
+                                return name.toUpperCase()
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validationFailures").isEmpty());
+    }
+
+    @Test
+    void typeError_validate_shouldReportFailure() throws Exception {
+        mockMvc.perform(post("/validate")
+                        .contentType(GROOVY)
+                        .param("scriptBaseClass", TestingBaseScript.class.getName())
+                        .content("""
+                                String name = 'jack'
+                                return name.toUpperCas()
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validationFailures.length()").value(1));
+    }
+
+    @Test
+    void unknownBaseClass_validate_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate")
+                        .contentType(GROOVY)
+                        .param("scriptBaseClass", "com.example.MissingScript")
+                        .content("return 1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void baseClassNotScript_validate_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate")
+                        .contentType(GROOVY)
+                        .param("scriptBaseClass", String.class.getName())
+                        .content("return 1"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.module.validator.groovy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.validation.validator.groovy.TestingBaseScript;
+import org.codehaus.groovy.ast.ClassHelper;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.decompiled.AsmDecompiler;
+import org.codehaus.groovy.ast.decompiled.AsmReferenceResolver;
+import org.codehaus.groovy.ast.decompiled.DecompiledClassNode;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.testng.annotations.Test;
+
+public class SharedClassNodeResolverTest {
+
+    private static final String VALID_SCRIPT = """
+            String name = 'jack'
+            List<String> names = [name, 'will']
+            return names.collect { it.toUpperCase() }.join(',')
+            """;
+
+    private static final String INVALID_SCRIPT = """
+            String name = 'jack'
+            return name.toUpperCas()
+            """;
+
+    @Test
+    void concurrentCompilations_sharedResolver_shouldReportOnlyOwnErrors() throws Exception {
+        final GroovyValidator validator = new GroovyValidator(TestingBaseScript.class, 50);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                final boolean valid = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final List<ValidationLog> logs = validator.validate(valid ? VALID_SCRIPT : INVALID_SCRIPT, null);
+                    return valid ? logs.isEmpty() : logs.size() == 1;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(validator.getClassLoaders().resolvedClassNodeCount()).isPositive();
+    }
+
+    @Test
+    void decompiledNode_cacheClass_shouldNotBeShared() throws Exception {
+        final SharedClassNodeResolver resolver = new SharedClassNodeResolver();
+        final ClassNode loaded = ClassHelper.make(Integer.class);
+        final DecompiledClassNode decompiled = new DecompiledClassNode(
+                AsmDecompiler.parseClass(String.class.getResource("String.class")),
+                new AsmReferenceResolver(resolver, new CompilationUnit()));
+
+        resolver.cacheClass(Integer.class.getName(), loaded);
+        resolver.cacheClass(String.class.getName(), decompiled);
+
+        assertThat(resolver.getFromClassCache(Integer.class.getName())).isSameAs(loaded);
+        assertThat(resolver.getFromClassCache(String.class.getName())).isNull();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator;
+
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.validation.module.validator.BatchValidationEntry;
+import com.evolveum.validation.module.validator.ItemDefinitionResolver;
+import com.evolveum.validation.module.validator.StreamingValidator;
+import com.evolveum.validation.module.validator.ValidationMetrics;
+import com.evolveum.validation.module.validator.ValidationResponse;
+import com.evolveum.validation.module.validator.ValidationResultCache;
+import com.evolveum.validation.module.validator.ValidatorController;
+import com.evolveum.validation.module.validator.ValidatorProviderImpl;
+import com.evolveum.validation.service.PrismContextService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBatchValidation {
+
+    private static final int BATCH_MAX_ENTRIES = 4;
+
+    private static final String VALID_XML = """
+            <expression>
+                <script>
+                    <code>givenName + ' ' + familyName</code>
+                </script>
+            </expression>
+            """;
+
+    private static final String MAPPING_WITHOUT_DEFINITION_XML = """
+            <mapping>
+                <name>givenName-to-cn</name>
+                <expression>
+                    <script>
+                        <code>givenName</code>
+                    </script>
+                </expression>
+            </mapping>
+            """;
+
+    private ExecutorService validationExecutor;
+    private ValidatorController controller;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        PrismContext prismContext = new PrismContextService().getPrismContext();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        ValidationMetrics metrics = new ValidationMetrics(new SimpleMeterRegistry());
+        this.validationExecutor = Executors.newFixedThreadPool(2);
+        this.controller = new ValidatorController(
+                new ValidatorProviderImpl(prismContext, new ItemDefinitionResolver(prismContext, cacheManager), metrics),
+                new ValidationResultCache(cacheManager),
+                validationExecutor,
+                new StreamingValidator(prismContext),
+                new ObjectMapper(),
+                metrics,
+                BATCH_MAX_ENTRIES);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        validationExecutor.shutdownNow();
+    }
+
+    @Test
+    public void batchResponsesKeepOrderOfEntries() {
+        ResponseEntity<?> response = controller.handleBatch(List.of(
+                new BatchValidationEntry(VALID_XML, "xml", null, null),
+                new BatchValidationEntry(MAPPING_WITHOUT_DEFINITION_XML, "xml", null, null),
+                new BatchValidationEntry("input + 'x'", "mel", null, null),
+                new BatchValidationEntry(VALID_XML, null, null, null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<List<ValidationLog>> logs = responses(response).stream()
+                .map(ValidationResponse::logs)
+                .toList();
+        assertThat(logs).hasSize(4);
+        assertThat(logs.get(0)).isEmpty();
+        assertThat(logs.get(1)).isNotEmpty();
+        assertThat(logs.get(2))
+                .extracting(ValidationLog::message)
+                .containsExactly("Unsupported language: mel");
+        assertThat(logs.get(3)).isEmpty();
+    }
+
+    @Test
+    public void failedEntryDoesNotAffectOtherEntries() {
+        ResponseEntity<?> response = controller.handleBatch(List.of(
+                new BatchValidationEntry(VALID_XML, "xml", "NoSuchType", null),
+                new BatchValidationEntry(null, null, null, null),
+                new BatchValidationEntry(VALID_XML, "xml", null, null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<ValidationResponse> responses = responses(response);
+        assertThat(responses).hasSize(3);
+        assertThat(responses.get(1).logs()).hasSize(1);
+        assertThat(responses.get(2).logs()).isEmpty();
+    }
+
+    @Test
+    public void batchOverLimitIsRejected() {
+        ResponseEntity<?> response = controller.handleBatch(Collections.nCopies(
+                BATCH_MAX_ENTRIES + 1, new BatchValidationEntry(VALID_XML, "xml", null, null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).asString().contains("maximum is " + BATCH_MAX_ENTRIES);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ValidationResponse> responses(ResponseEntity<?> response) {
+        return (List<ValidationResponse>) response.getBody();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator;
+
+import com.evolveum.midpoint.prism.ItemDefinition;
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.validation.config.CacheConfiguration;
+import com.evolveum.validation.module.validator.ItemDefinitionResolver;
+import com.evolveum.validation.service.PrismContextService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestItemDefinitionResolver {
+
+    private PrismContext prismContext;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        this.prismContext = new PrismContextService().getPrismContext();
+    }
+
+    @Test
+    public void repeatedResolveReturnsCachedDefinition() throws Exception {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        ItemDefinitionResolver resolver = new ItemDefinitionResolver(prismContext, cacheManager);
+
+        ItemDefinition<?> first = resolver.resolve("ResourceType", "schemaHandling/objectType/attribute");
+        ItemDefinition<?> second = resolver.resolve("ResourceType", "schemaHandling/objectType/attribute");
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        assertThat(resolver.resolve("ResourceType", null)).isNotSameAs(first);
+    }
+
+    @Test
+    public void unknownTypeIsNotCached() {
+        ItemDefinitionResolver resolver = new ItemDefinitionResolver(prismContext, new ConcurrentMapCacheManager());
+
+        assertThatThrownBy(() -> resolver.resolve("NoSuchType", null))
+                .hasMessage("Complex type definition is null.");
+        assertThatThrownBy(() -> resolver.resolve("NoSuchType", null))
+                .hasMessage("Complex type definition is null.");
+    }
+
+    @Test
+    public void onlySchemaTypesAreResolvedAsTypeNames() {
+        ItemDefinitionResolver resolver = new ItemDefinitionResolver(prismContext, new ConcurrentMapCacheManager());
+
+        assertThat(resolver.resolveTypeName("ResourceType")).isEqualTo("ResourceType");
+        assertThat(resolver.resolveTypeName("NoSuchType")).isNull();
+    }
+
+    @Test
+    public void typeNamesAndMissesAreCached() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        ItemDefinitionResolver resolver = new ItemDefinitionResolver(prismContext, cacheManager);
+        Cache cache = cacheManager.getCache(CacheConfiguration.ITEM_DEFINITIONS);
+
+        resolver.resolveTypeName("ResourceType");
+        resolver.resolveTypeName("NoSuchType");
+        resolver.resolveTypeName("ResourceType");
+        resolver.resolveTypeName("NoSuchType");
+
+        assertThat((Map<?, ?>) cache.getNativeCache()).hasSize(2);
+    }
+}
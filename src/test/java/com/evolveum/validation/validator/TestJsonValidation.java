@@ -10,11 +10,18 @@ package com.evolveum.validation.validator;
 
 import com.evolveum.concepts.SourceLocation;
 import com.evolveum.concepts.ValidationLog;
+import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.validation.common.SupportedLanguage;
 import com.evolveum.validation.module.validator.CodeValidator;
+import com.evolveum.validation.module.validator.ItemDefinitionResolver;
+import com.evolveum.validation.module.validator.ValidationMetrics;
 import com.evolveum.validation.module.validator.ValidationParams;
 import com.evolveum.validation.module.validator.ValidatorProvider;
 import com.evolveum.validation.module.validator.ValidatorProviderImpl;
+import com.evolveum.validation.service.PrismContextService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -28,11 +35,21 @@ import static org.testng.AssertJUnit.assertTrue;
  */
 public class TestJsonValidation {
 
+    private PrismContext prismContext;
+
     private ValidatorProvider<ValidationParams> validatorProvider;
 
+    @BeforeClass
+    public void setUpPrismContext() throws Exception {
+        this.prismContext = new PrismContextService().getPrismContext();
+    }
+
     @BeforeMethod
     public void setUp() {
-        this.validatorProvider = new ValidatorProviderImpl();
+        this.validatorProvider = new ValidatorProviderImpl(
+                prismContext,
+                new ItemDefinitionResolver(prismContext, new ConcurrentMapCacheManager()),
+                new ValidationMetrics(new SimpleMeterRegistry()));
     }
 
 
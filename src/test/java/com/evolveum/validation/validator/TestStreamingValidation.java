@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator;
+
+import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.module.validator.ObjectValidationResult;
+import com.evolveum.validation.module.validator.StreamingValidator;
+import com.evolveum.validation.service.PrismContextService;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStreamingValidation {
+
+    private StreamingValidator streamingValidator;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        this.streamingValidator = new StreamingValidator(new PrismContextService().getPrismContext());
+    }
+
+    @Test
+    public void logsAreAttributedToTheirObjects() throws Exception {
+        String rawXml = """
+                <objects xmlns="http://midpoint.evolveum.com/xml/ns/public/common/common-3">
+                    <user oid="00000000-0000-0000-0000-000000000001">
+                        <name>first</name>
+                    </user>
+                    <user oid="00000000-0000-0000-0000-000000000002">
+                        <name>second</name>
+                        <assignment>
+                            Test
+                        </assignment>
+                    </user>
+                    <user oid="00000000-0000-0000-0000-000000000003">
+                        <name>third</name>
+                    </user>
+                </objects>
+                """;
+
+        List<ObjectValidationResult> results = new ArrayList<>();
+        streamingValidator.validate(
+                new ByteArrayInputStream(rawXml.getBytes(StandardCharsets.UTF_8)), SupportedLanguage.XML, results::add);
+
+        assertThat(results)
+                .extracting(ObjectValidationResult::name)
+                .containsExactly("first", "second", "third");
+        assertThat(results)
+                .extracting(result -> result.logs().size())
+                .containsExactly(0, 1, 0);
+    }
+}
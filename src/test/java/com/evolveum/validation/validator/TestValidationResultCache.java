@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator;
+
+import com.evolveum.concepts.SourceLocation;
+import com.evolveum.concepts.TechnicalMessage;
+import com.evolveum.concepts.ValidationLog;
+import com.evolveum.concepts.ValidationLogType;
+import com.evolveum.validation.common.SupportedLanguage;
+import com.evolveum.validation.module.validator.ValidationParams;
+import com.evolveum.validation.module.validator.ValidationResultCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestValidationResultCache {
+
+    private static final String CODE = "<expression/>";
+    private static final ValidationParams PARAMS = new ValidationParams(null, null);
+
+    private ValidationResultCache cache;
+    private AtomicInteger validations;
+
+    @BeforeMethod
+    public void setUp() {
+        this.cache = new ValidationResultCache(new ConcurrentMapCacheManager());
+        this.validations = new AtomicInteger();
+    }
+
+    @Test
+    public void identicalRequestIsServedFromCache() throws Exception {
+        List<ValidationLog> first = cache.get(CODE, SupportedLanguage.XML, PARAMS, this::validate);
+        List<ValidationLog> second = cache.get(new String(CODE), SupportedLanguage.XML, new ValidationParams(null, null),
+                this::validate);
+
+        assertThat(validations).hasValue(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    public void differentLanguageOrParamsAreValidatedAgain() throws Exception {
+        cache.get(CODE, SupportedLanguage.XML, PARAMS, this::validate);
+        cache.get(CODE, SupportedLanguage.JSON, PARAMS, this::validate);
+        cache.get(CODE, SupportedLanguage.XML, new ValidationParams("UserType", null), this::validate);
+
+        assertThat(validations).hasValue(3);
+    }
+
+    @Test
+    public void failedValidationIsNotCached() throws Exception {
+        assertThatThrownBy(() -> cache.get(CODE, SupportedLanguage.XML, PARAMS, () -> {
+            validations.incrementAndGet();
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+        cache.get(CODE, SupportedLanguage.XML, PARAMS, this::validate);
+
+        assertThat(validations).hasValue(2);
+    }
+
+    private List<ValidationLog> validate() {
+        validations.incrementAndGet();
+        return List.of(new ValidationLog(
+                ValidationLogType.WARNING,
+                ValidationLogType.Specification.UNKNOW,
+                SourceLocation.unknown(),
+                new TechnicalMessage(""),
+                "warning"));
+    }
+}
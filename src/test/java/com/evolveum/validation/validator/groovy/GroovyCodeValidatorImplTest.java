@@ -8,6 +8,8 @@
 
 package com.evolveum.validation.validator.groovy;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.util.List;
@@ -18,7 +20,7 @@ import org.testng.annotations.Test;
 
 public class GroovyCodeValidatorImplTest {
 
-    @Test(enabled = false)
+    @Test
     void scriptContainsKnownMethodClosure_validateIsCalled_validationShouldPass() {
         final String script = """
                 someMethod("User") {
@@ -32,4 +34,44 @@ public class GroovyCodeValidatorImplTest {
         assertTrue(errors.isEmpty(), "Unexpected errors: " + errors);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void scriptIsStaticallyTyped_validateIsCalled_validationShouldPass() {
+        final String script = """
+                String name = 'jack'
+                List<String> names = [name, 'will']
+                return names.collect { it.toUpperCase() }.join(',')
+                """;
+
+        final GroovyValidator validator = new GroovyValidator(TestingBaseScript.class);
+        final List<ValidationLog> errors = validator.validate(script, null);
+
+        assertTrue(errors.isEmpty(), "Unexpected errors: " + errors);
+    }
+
+    @Test
+    void scriptCallsUnknownMethod_validateIsCalled_typeErrorShouldBeReported() {
+        final String script = """
+                String name = 'jack'
+                return name.toUpperCas()
+                """;
+
+        final GroovyValidator validator = new GroovyValidator(TestingBaseScript.class);
+        final List<ValidationLog> errors = validator.validate(script, null);
+
+        assertEquals(errors.size(), 1, "Expected one error: " + errors);
+        assertTrue(errors.get(0).message().contains("toUpperCas"), "Unexpected error: " + errors.get(0).message());
+    }
+
+    @Test
+    void scriptAssignsIncompatibleType_validateIsCalled_typeErrorShouldBeReported() {
+        final String script = """
+                int count = 'jack'
+                """;
+
+        final GroovyValidator validator = new GroovyValidator(TestingBaseScript.class);
+        final List<ValidationLog> errors = validator.validate(script, null);
+
+        assertFalse(errors.isEmpty(), "Expected type error");
+    }
+}
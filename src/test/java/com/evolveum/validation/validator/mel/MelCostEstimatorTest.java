@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator.mel;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.evolveum.validation.module.validator.mel.MelCostEstimate;
+import com.evolveum.validation.module.validator.mel.MelCostEstimator;
+import com.evolveum.validation.module.validator.mel.MelVariableContext;
+import com.evolveum.validation.module.validator.mel.MelVariableValue;
+import dev.cel.common.CelAbstractSyntaxTree;
+import dev.cel.parser.CelParser;
+import dev.cel.parser.CelParserFactory;
+import dev.cel.parser.CelStandardMacro;
+import org.testng.annotations.Test;
+
+public class MelCostEstimatorTest {
+
+    private final CelParser parser = CelParserFactory.standardCelParserBuilder()
+            .setStandardMacros(CelStandardMacro.STANDARD_MACROS)
+            .build();
+
+    @Test
+    void nestedComprehensionsOverLargeValue_estimate_shouldExceedLimit() throws Exception {
+        final MelCostEstimator estimator = new MelCostEstimator(100_000);
+        final MelVariableContext variables = MelVariableContext.of(List.of(
+                new MelVariableValue("input", List.class, Collections.nCopies(1000, "x"))));
+
+        final MelCostEstimate simple = estimator.estimate(parse("input.size() > 0"), variables);
+        final MelCostEstimate nested = estimator.estimate(
+                parse("input.map(a, input.filter(b, b == a).size()).size()"), variables);
+
+        assertEquals(simple.comprehensions(), 0);
+        assertTrue(estimator.isAllowed(simple), "Simple script rejected: " + simple);
+        assertEquals(nested.comprehensions(), 2);
+        assertFalse(estimator.isAllowed(nested), "Nested comprehensions allowed: " + nested);
+    }
+
+    private CelAbstractSyntaxTree parse(String script) throws Exception {
+        return parser.parse(script).getAst();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator.mel;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import com.evolveum.midpoint.xml.ns._public.common.common_3.UserType;
+import com.evolveum.validation.module.validator.mel.MelCompiledScript;
+import com.evolveum.validation.module.validator.mel.MelScriptCompiler;
+import com.evolveum.validation.module.validator.mel.MelTypeDeclarations;
+import com.evolveum.validation.module.validator.mel.MelVariableDeclaration;
+import com.evolveum.validation.service.PrismContextService;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class MelScriptCompilerTest {
+
+    private MelTypeDeclarations typeDeclarations;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        this.typeDeclarations = new MelTypeDeclarations(new PrismContextService().getPrismContext());
+    }
+
+    @Test
+    void sameScriptAndVariables_compileTwice_shouldReturnCachedScript() {
+        final MelScriptCompiler compiler = new MelScriptCompiler(new ConcurrentMapCache("melScripts"), typeDeclarations);
+        final List<MelVariableDeclaration> variables = List.of(new MelVariableDeclaration("input", String.class));
+
+        final MelCompiledScript first = compiler.compile("input.replace('-', '')", variables);
+        final MelCompiledScript second = compiler.compile("input.replace('-', '')", variables);
+        final MelCompiledScript otherVariables = compiler.compile("input.replace('-', '')",
+                List.of(new MelVariableDeclaration("input", Integer.class)));
+
+        assertTrue(first.isValid(), "Unexpected errors: " + first.errors());
+        assertSame(second, first);
+        assertNotSame(otherVariables, first);
+    }
+
+    @Test
+    void scriptWithSyntaxError_compile_shouldReturnErrors() {
+        final MelScriptCompiler compiler = new MelScriptCompiler(new ConcurrentMapCache("melScripts"), typeDeclarations);
+
+        final MelCompiledScript compiled = compiler.compile("input.replace('-', ", List.of());
+
+        assertFalse(compiled.isValid(), "Expected compilation errors");
+    }
+
+    @Test
+    void prismItemPaths_compile_shouldReportUnknownItemsOnly() {
+        final MelScriptCompiler compiler = new MelScriptCompiler(new ConcurrentMapCache("melScripts"), typeDeclarations);
+        final List<MelVariableDeclaration> variables = List.of(new MelVariableDeclaration("focus", UserType.class));
+
+        final MelCompiledScript valid = compiler.compile(
+                "focus.givenName.orig + ' ' + string(focus.activation.administrativeStatus)", variables);
+        final MelCompiledScript invalid = compiler.compile("focus.activation.administrativeStatos", variables);
+
+        assertTrue(valid.isValid(), "Unexpected errors: " + valid.errors());
+        assertEquals(invalid.errors().size(), 1, "Unexpected errors: " + invalid.errors());
+    }
+
+    @Test
+    void scriptWithMelSyntaxExtensions_compile_shouldBeValid() {
+        final MelScriptCompiler compiler = new MelScriptCompiler(new ConcurrentMapCache("melScripts"), typeDeclarations);
+        final List<MelVariableDeclaration> variables = List.of(new MelVariableDeclaration("input", String.class));
+
+        final MelCompiledScript optional = compiler.compile("{'a': input}.?a.orValue('')", variables);
+        final MelCompiledScript binding = compiler.compile("cel.bind(x, input + '-', x + x)", variables);
+
+        assertTrue(optional.isValid(), "Unexpected errors: " + optional.errors());
+        assertTrue(binding.isValid(), "Unexpected errors: " + binding.errors());
+    }
+
+    @Test
+    void comprehensionVariableShadowingPrismVariable_compile_shouldNotCheckItsPaths() {
+        final MelScriptCompiler compiler = new MelScriptCompiler(new ConcurrentMapCache("melScripts"), typeDeclarations);
+        final List<MelVariableDeclaration> variables = List.of(new MelVariableDeclaration("focus", UserType.class));
+
+        final MelCompiledScript iteration = compiler.compile("focus.assignment.map(focus, focus.targetRef)", variables);
+        final MelCompiledScript binding = compiler.compile("cel.bind(focus, {'x': 1}, focus.x)", variables);
+        final MelCompiledScript range = compiler.compile("focus.assignmentz.map(focus, focus.targetRef)", variables);
+
+        assertTrue(iteration.isValid(), "Unexpected errors: " + iteration.errors());
+        assertTrue(binding.isValid(), "Unexpected errors: " + binding.errors());
+        assertEquals(range.errors().size(), 1, "Unexpected errors: " + range.errors());
+    }
+}
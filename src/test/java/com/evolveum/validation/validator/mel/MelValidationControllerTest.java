@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator.mel;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.evolveum.midpoint.prism.PrismContext;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.UserType;
+import com.evolveum.validation.module.validator.mel.MelFixtureController;
+import com.evolveum.validation.module.validator.mel.MelFixtureRegistry;
+import com.evolveum.validation.module.validator.mel.MelValidationController;
+import com.evolveum.validation.module.validator.mel.MelValidator;
+import com.evolveum.validation.module.validator.mel.MelValidatorProviderImpl;
+import com.evolveum.validation.module.validator.mel.MelVariableTypeRegistry;
+import com.evolveum.validation.service.PrismContextService;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class MelValidationControllerTest {
+
+    private static final int BATCH_MAX_ENTRIES = 3;
+
+    private ExecutorService validationExecutor;
+    private ExecutorService evaluationExecutor;
+    private ExecutorService timeoutEvaluationExecutor;
+    private MockMvc mockMvc;
+    private MockMvc timeoutMockMvc;
+
+    @BeforeClass
+    public void setup() throws Exception {
+        final PrismContext prismContext = new PrismContextService().getPrismContext();
+        final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        validationExecutor = Executors.newFixedThreadPool(2);
+        evaluationExecutor = Executors.newFixedThreadPool(2);
+        final MelFixtureRegistry fixtures = new MelFixtureRegistry(prismContext, cacheManager);
+
+        final MelValidationController controller = new MelValidationController(
+                new MelValidatorProviderImpl(prismContext, null, null, cacheManager, evaluationExecutor,
+                        Duration.ofSeconds(2), 100_000, 0),
+                new MelVariableTypeRegistry(List.of()),
+                fixtures,
+                validationExecutor,
+                BATCH_MAX_ENTRIES,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller, new MelFixtureController(fixtures)).build();
+
+        // short deadlines, so slow scripts are abandoned quickly; every thread may be held by an abandoned script
+        timeoutEvaluationExecutor = Executors.newFixedThreadPool(8);
+        final MelValidationController timeoutController = new MelValidationController(
+                new MelValidatorProviderImpl(prismContext, null, null, cacheManager, timeoutEvaluationExecutor,
+                        Duration.ofMillis(30), Long.MAX_VALUE, 8),
+                new MelVariableTypeRegistry(List.of()),
+                fixtures,
+                validationExecutor,
+                BATCH_MAX_ENTRIES,
+                Duration.ofMillis(30),
+                Duration.ofMillis(60));
+        timeoutMockMvc = MockMvcBuilders.standaloneSetup(timeoutController).build();
+    }
+
+    @AfterClass
+    public void shutdown() {
+        validationExecutor.shutdownNow();
+        evaluationExecutor.shutdownNow();
+        timeoutEvaluationExecutor.shutdownNow();
+    }
+
+    @Test
+    void declaredVariables_checkContext_shouldPass() throws Exception {
+        mockMvc.perform(post("/validate/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "input + ' ' + name", "variables": {
+                                    "input": {"type": "string"},
+                                    "name": {"type": "string"}}}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.logs").isEmpty());
+    }
+
+    @Test
+    void nullVariable_checkContext_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "input", "variables": {"input": null}}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nullVariable_evaluateContext_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "input", "variables": {"input": null}}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void registeredFixture_validateContext_shouldUseFixtureAsVariable() throws Exception {
+        mockMvc.perform(put("/fixtures/jack")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("""
+                                <user oid="c0c010c0-d34d-b33f-f00d-111111111111"
+                                        xmlns="http://midpoint.evolveum.com/xml/ns/public/common/common-3">
+                                    <name>jack</name>
+                                </user>
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.type").value(UserType.class.getName()))
+                .andExpect(jsonPath("$.oid").value("c0c010c0-d34d-b33f-f00d-111111111111"));
+
+        mockMvc.perform(post("/validate/mel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "'ok'", "variables": {
+                                    "user": {"type": "%s", "fixture": "jack"}}}
+                                """.formatted(UserType.class.getName())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.logs").isEmpty());
+    }
+
+    @Test
+    void unknownFixture_evaluateContext_shouldFail() throws Exception {
+        mockMvc.perform(post("/validate/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "'ok'", "variables": {
+                                    "user": {"type": "%s", "fixture": "missing"}}}
+                                """.formatted(UserType.class.getName())))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorType").value(IllegalArgumentException.class.getSimpleName()));
+    }
+
+    @Test
+    void testValues_evaluateBatch_shouldKeepOrderAndReportEntryErrors() throws Exception {
+        mockMvc.perform(post("/validate/evaluate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "string(input * 2)", "variableName": "input", "variableType": "int",
+                                    "testValues": ["1", "x", "3"]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].transformedValue").value("2"))
+                .andExpect(jsonPath("$[1].errorType").value(NumberFormatException.class.getSimpleName()))
+                .andExpect(jsonPath("$[2].transformedValue").value("6"));
+    }
+
+    @Test
+    void tooManyTestValues_evaluateBatch_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate/evaluate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"script": "input", "variableName": "input", "variableType": "string",
+                                    "testValues": ["a", "b", "c", "d"]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorType").value(IllegalArgumentException.class.getSimpleName()));
+    }
+
+    @Test
+    void scripts_validateScripts_shouldKeepOrderAndReportScriptErrors() throws Exception {
+        mockMvc.perform(post("/validate/mel/scripts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"scripts": ["input + 'a'", "input.replce('-', '')", "input"], "variables": {
+                                    "input": {"type": "string", "value": "x"}}}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].logs").isEmpty())
+                .andExpect(jsonPath("$[1].logs").isNotEmpty())
+                .andExpect(jsonPath("$[2].logs").isEmpty());
+    }
+
+    @Test
+    void scripts_evaluateScripts_shouldKeepOrder() throws Exception {
+        mockMvc.perform(post("/validate/evaluate/scripts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"scripts": ["input + 'a'", "input"], "variables": {
+                                    "input": {"type": "string", "value": "x"}}}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].transformedValue").value("xa"))
+                .andExpect(jsonPath("$[1].transformedValue").value("x"));
+    }
+
+    @Test
+    void tooManyScripts_validateScripts_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/validate/mel/scripts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"scripts": ["'a'", "'b'", "'c'", "'d'"], "variables": {}}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void timeoutHeader_evaluateContext_shouldBeDefaultedAndCapped() throws Exception {
+        assertDeadline(null, 30);
+        assertDeadline(0L, 30);
+        assertDeadline(-5L, 30);
+        assertDeadline(45L, 45);
+        assertDeadline(100_000L, 60);
+    }
+
+    private void assertDeadline(Long timeoutHeader, long expectedMillis) throws Exception {
+        final MockHttpServletRequestBuilder request = post("/validate/evaluate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"script": "%s", "variables": {}}
+                        """.formatted(MelValidatorTest.slowScript()));
+        if (timeoutHeader != null) {
+            request.header(MelValidationController.TIMEOUT_HEADER, timeoutHeader);
+        }
+        timeoutMockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorType").value(MelValidator.DEADLINE_EXCEEDED_TYPE))
+                .andExpect(jsonPath("$.error").value(
+                        "MEL evaluation did not finish within " + expectedMillis + " ms."));
+    }
+}
@@ -11,13 +11,25 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.evolveum.concepts.ValidationLog;
 import com.evolveum.midpoint.prism.PrismContext;
 import com.evolveum.midpoint.schema.MidPointPrismContextFactory;
 import com.evolveum.validation.module.validator.EvaluationResponse;
+import com.evolveum.validation.module.validator.mel.MelCostEstimator;
+import com.evolveum.validation.module.validator.mel.MelScriptCompiler;
+import com.evolveum.validation.module.validator.mel.MelTypeDeclarations;
 import com.evolveum.validation.module.validator.mel.MelValidator;
+import com.evolveum.validation.module.validator.mel.MelVariableValue;
+import org.springframework.cache.support.NoOpCache;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
@@ -128,4 +140,78 @@ public class MelValidatorTest {
         assertTrue(response.isSuccess(), "Expected successful evaluation");
         assertEquals(response.transformedValue(), "hello world", "Expected transformed value to be 'hello world'");
     }
+
+    @Test
+    void requestDeadlinePassed_evaluateWithResult_shouldReturnDeadlineExceeded() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final MelValidator validator = new MelValidator(
+                    prismContext,
+                    null,
+                    null,
+                    new MelScriptCompiler(new NoOpCache("test"), new MelTypeDeclarations(prismContext)),
+                    new MelCostEstimator(Long.MAX_VALUE),
+                    executor,
+                    Duration.ofSeconds(2),
+                    1
+            );
+            final EvaluationResponse response = validator.evaluateWithResult(
+                    "input + ' world'",
+                    List.of(new MelVariableValue("input", String.class, "hello")),
+                    Duration.ofMillis(-5)
+            );
+
+            assertFalse(response.isSuccess(), "Expected evaluation to be skipped");
+            assertEquals(response.errorType(), MelValidator.DEADLINE_EXCEEDED_TYPE);
+            assertEquals(validator.getAbandonedEvaluations(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void slowScript_evaluateWithResult_shouldBeAbandonedAndRefuseNextEvaluation() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final MelValidator validator = new MelValidator(
+                    prismContext,
+                    null,
+                    null,
+                    new MelScriptCompiler(new NoOpCache("test"), new MelTypeDeclarations(prismContext)),
+                    new MelCostEstimator(Long.MAX_VALUE),
+                    executor,
+                    Duration.ofSeconds(2),
+                    1
+            );
+
+            final EvaluationResponse slow = validator.evaluateWithResult(slowScript(), List.of(), Duration.ofMillis(20));
+            assertEquals(slow.errorType(), MelValidator.DEADLINE_EXCEEDED_TYPE);
+            assertEquals(validator.getAbandonedEvaluations(), 1);
+
+            final EvaluationResponse refused = validator.evaluateWithResult("1 + 1", List.of(), Duration.ofSeconds(1));
+            assertFalse(refused.isSuccess(), "Expected evaluation to be refused");
+            assertEquals(refused.errorType(), RejectedExecutionException.class.getSimpleName());
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (validator.getAbandonedEvaluations() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(validator.getAbandonedEvaluations(), 0);
+
+            final EvaluationResponse next = validator.evaluateWithResult("1 + 1", List.of(), Duration.ofSeconds(10));
+            assertTrue(next.isSuccess(), "Unexpected error: " + next.error());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Script with millions of comprehension steps, it runs for much longer than the deadlines used by the tests.
+     */
+    static String slowScript() {
+        final String list = IntStream.range(0, 150)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+        return "%s.all(a, %s.all(b, %s.all(c, a + b + c >= 0)))".formatted(list, list, list);
+    }
 }
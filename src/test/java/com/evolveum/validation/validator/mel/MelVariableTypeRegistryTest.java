@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Evolveum and contributors
+ *
+ * Licensed under the EUPL-1.2 or later.
+ *
+ */
+
+package com.evolveum.validation.validator.mel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import com.evolveum.midpoint.prism.polystring.PolyString;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.FocusType;
+import com.evolveum.midpoint.xml.ns._public.common.common_3.UserType;
+import com.evolveum.validation.module.validator.mel.MelVariableTypeRegistry;
+import com.evolveum.validation.module.validator.mel.MelVariableTypeRegistry.MelVariableType;
+import org.testng.annotations.Test;
+
+public class MelVariableTypeRegistryTest {
+
+    private final MelVariableTypeRegistry registry = new MelVariableTypeRegistry(List.of());
+
+    @Test
+    void alias_find_shouldResolveSameTypeAsClassName() {
+        final MelVariableType alias = registry.find("int").orElseThrow();
+
+        assertThat(alias).isSameAs(registry.find("integer").orElseThrow());
+        assertThat(alias).isSameAs(registry.find(Integer.class.getName()).orElseThrow());
+        assertThat(alias.convert("42")).isEqualTo(42);
+        assertThat(registry.find("polystring").orElseThrow().convert("jack")).isEqualTo(PolyString.fromOrig("jack"));
+    }
+
+    @Test
+    void classNotRegistered_find_shouldBeEmpty() {
+        assertThat(registry.find(Runtime.class.getName())).isEmpty();
+        assertThat(registry.find("java.lang.ProcessBuilder")).isEmpty();
+        assertThat(registry.find("Integer")).isEmpty();
+    }
+
+    @Test
+    void configuredClass_find_shouldResolve() {
+        final MelVariableTypeRegistry configured = new MelVariableTypeRegistry(List.of(" java.math.BigDecimal "));
+
+        assertThat(configured.find("java.math.BigDecimal").orElseThrow().type()).isEqualTo(java.math.BigDecimal.class);
+    }
+
+    @Test
+    void unknownConfiguredClass_create_shouldFail() {
+        assertThatThrownBy(() -> new MelVariableTypeRegistry(List.of("com.example.Missing")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void abstractType_convert_shouldBeRejected() {
+        final MelVariableType focus = registry.find(FocusType.class.getName()).orElseThrow();
+
+        assertThatThrownBy(() -> focus.convert("jack")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(focus.convert(null)).isNull();
+        assertThat(registry.find(UserType.class.getName()).orElseThrow().type()).isEqualTo(UserType.class);
+    }
+}